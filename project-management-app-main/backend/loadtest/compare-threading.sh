@@ -0,0 +1,57 @@
+#!/bin/bash
+# Runs the same k6 load against the backend twice, on platform and on virtual request threads,
+# and prints the two summaries side by side.
+#
+# Needs JDK 21, k6 and jq. Point the app at a real database the usual way, e.g. with
+# SPRING_DATASOURCE_URL / SPRING_DATASOURCE_USERNAME / SPRING_DATASOURCE_PASSWORD, and start
+# each comparison from the same data so both runs see the same table sizes.
+#
+#   loadtest/compare-threading.sh                       # defaults from project-task-load.js
+#   DURATION=5m READ_RATE=800 loadtest/compare-threading.sh
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+PORT=${PORT:-8081}
+BASE_URL="http://localhost:${PORT}"
+OUT="loadtest/results/$(date +%Y%m%d-%H%M%S)"
+mkdir -p "$OUT"
+
+mvn -B -q -Pjdk21 -DskipTests package
+JAR=$(ls target/project-management-app-*.jar | grep -v '\.original$' | head -n 1)
+
+for mode in platform virtual; do
+    virtual=false
+    if [ "$mode" = virtual ]; then
+        virtual=true
+    fi
+
+    echo "Starting backend with ${mode} threads"
+    java -jar "$JAR" --server.port="$PORT" --spring.threads.virtual.enabled="$virtual" \
+        --spring.jpa.show-sql=false > "$OUT/${mode}-server.log" 2>&1 &
+    server=$!
+    until curl -s -o /dev/null "$BASE_URL/api/auth/signin"; do
+        if ! kill -0 "$server" 2>/dev/null; then
+            echo "Backend failed to start, see $OUT/${mode}-server.log" >&2
+            exit 1
+        fi
+        sleep 1
+    done
+
+    k6 run -e BASE_URL="$BASE_URL" --summary-export "$OUT/${mode}.json" \
+        loadtest/project-task-load.js | tee "$OUT/${mode}.txt"
+
+    kill "$server"
+    wait "$server" || true
+done
+
+printf '\n%-10s %12s %12s %12s %12s %10s\n' mode 'req/s' 'p50 ms' 'p95 ms' 'max ms' 'failed'
+for mode in platform virtual; do
+    jq -r --arg mode "$mode" '[$mode,
+        (.metrics.http_reqs.rate | floor),
+        (.metrics.http_req_duration.med * 100 | floor / 100),
+        (.metrics.http_req_duration["p(95)"] * 100 | floor / 100),
+        (.metrics.http_req_duration.max * 100 | floor / 100),
+        (.metrics.http_req_failed.value * 10000 | floor / 100 | tostring + "%")] | @tsv' "$OUT/${mode}.json" |
+        awk -F '\t' '{ printf "%-10s %12s %12s %12s %12s %10s\n", $1, $2, $3, $4, $5, $6 }'
+done
+echo "Results in $OUT"
@@ -0,0 +1,116 @@
+// k6 load scenario for the project and task endpoints: a steady mix of reads and writes at
+// fixed arrival rates, so platform and virtual thread runs see exactly the same offered load.
+//
+//   k6 run -e BASE_URL=http://localhost:8081 loadtest/project-task-load.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const PROJECTS = parseInt(__ENV.PROJECTS || '20');
+const TASKS_PER_PROJECT = parseInt(__ENV.TASKS_PER_PROJECT || '50');
+const DURATION = __ENV.DURATION || '2m';
+const READ_RATE = parseInt(__ENV.READ_RATE || '400');
+const WRITE_RATE = parseInt(__ENV.WRITE_RATE || '50');
+const STATUSES = ['TODO', 'IN_PROGRESS', 'REVIEW', 'DONE', 'BLOCKED'];
+
+export const options = {
+  scenarios: {
+    reads: {
+      executor: 'constant-arrival-rate',
+      exec: 'reads',
+      rate: READ_RATE,
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: 200,
+      maxVUs: 2000,
+    },
+    writes: {
+      executor: 'constant-arrival-rate',
+      exec: 'writes',
+      rate: WRITE_RATE,
+      timeUnit: '1s',
+      duration: DURATION,
+      preAllocatedVUs: 50,
+      maxVUs: 500,
+    },
+  },
+};
+
+function json(token) {
+  const headers = { 'Content-Type': 'application/json' };
+  if (token) {
+    headers.Authorization = `Bearer ${token}`;
+  }
+  return { headers };
+}
+
+function pick(items) {
+  return items[Math.floor(Math.random() * items.length)];
+}
+
+// One user with PROJECTS projects of TASKS_PER_PROJECT tasks each
+export function setup() {
+  const username = `load${Date.now()}`;
+  http.post(`${BASE_URL}/api/auth/signup`, JSON.stringify({
+    username, email: `${username}@example.com`, password: 'secret1', fullName: 'Load Test',
+  }), json());
+  const signin = http.post(`${BASE_URL}/api/auth/signin`,
+    JSON.stringify({ username, password: 'secret1' }), json());
+  const token = signin.json('token');
+  const userId = signin.json('id');
+
+  const projectIds = [];
+  const taskIds = [];
+  for (let p = 0; p < PROJECTS; p++) {
+    const project = http.post(`${BASE_URL}/api/projects`, JSON.stringify({
+      name: `Load project ${p}`, startDate: '2024-01-01T00:00:00', status: 'IN_PROGRESS',
+    }), json(token));
+    const projectId = project.json('id');
+    projectIds.push(projectId);
+
+    const tasks = [];
+    for (let t = 0; t < TASKS_PER_PROJECT; t++) {
+      tasks.push({
+        title: `Task ${p}-${t}`, priority: 1 + (t % 5), projectId, assigneeId: userId,
+        dueDate: '2030-01-01T00:00:00', status: STATUSES[t % STATUSES.length],
+      });
+    }
+    const batch = http.post(`${BASE_URL}/api/tasks/batch`, JSON.stringify(tasks), json(token));
+    batch.json('results').forEach(result => taskIds.push(result.taskId));
+  }
+  return { token, userId, projectIds, taskIds };
+}
+
+export function reads(data) {
+  const params = json(data.token);
+  const requests = [
+    () => http.get(`${BASE_URL}/api/projects/${pick(data.projectIds)}`, Object.assign({ tags: { name: 'GET project' } }, params)),
+    () => http.get(`${BASE_URL}/api/tasks/project/${pick(data.projectIds)}?limit=50`, Object.assign({ tags: { name: 'GET project tasks' } }, params)),
+    () => http.get(`${BASE_URL}/api/tasks/${pick(data.taskIds)}`, Object.assign({ tags: { name: 'GET task' } }, params)),
+    () => http.get(`${BASE_URL}/api/tasks/assigned?limit=50`, Object.assign({ tags: { name: 'GET assigned tasks' } }, params)),
+    () => http.get(`${BASE_URL}/api/dashboard`, Object.assign({ tags: { name: 'GET dashboard' } }, params)),
+  ];
+  const response = pick(requests)();
+  check(response, { 'read ok': r => r.status === 200 });
+}
+
+export function writes(data) {
+  const params = json(data.token);
+  const taskId = pick(data.taskIds);
+  let response;
+  switch (Math.floor(Math.random() * 3)) {
+    case 0:
+      response = http.post(`${BASE_URL}/api/tasks`, JSON.stringify({
+        title: 'Load write', priority: 3, projectId: pick(data.projectIds), assigneeId: data.userId,
+      }), Object.assign({ tags: { name: 'POST task' } }, params));
+      break;
+    case 1:
+      response = http.patch(`${BASE_URL}/api/tasks/${taskId}/status?status=${pick(STATUSES)}`, null,
+        Object.assign({ tags: { name: 'PATCH task status' } }, params));
+      break;
+    default:
+      response = http.patch(`${BASE_URL}/api/tasks/${taskId}/progress?progress=${Math.floor(Math.random() * 101)}`, null,
+        Object.assign({ tags: { name: 'PATCH task progress' } }, params));
+  }
+  check(response, { 'write ok': r => r.status === 200 });
+}
@@ -0,0 +1,38 @@
+#!/bin/bash
+# Starts the backend on an in-memory H2 database filled by LoadTestDataSeeder, runs the k6
+# scenario in seeded-load.js against it and prints latency percentiles and throughput per
+# endpoint. Needs only a JDK and k6; no database server.
+#
+#   loadtest/run-seeded-load.sh
+#   SEED_PROJECTS=2000 SEED_TASKS_PER_PROJECT=100 DURATION=5m loadtest/run-seeded-load.sh
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+PORT=${PORT:-8081}
+BASE_URL="http://localhost:${PORT}"
+OUT="loadtest/results/seeded-$(date +%Y%m%d-%H%M%S)"
+mkdir -p "$OUT"
+
+# The seeder, the loadtest profile and H2 are test sources, so the app runs on the test classpath. The
+# JIT is left fully on (optimizedLaunch=false), since the latencies are what is being measured
+args="--server.port=$PORT${SEED_USERS:+ --app.seed.users=$SEED_USERS}\
+${SEED_PROJECTS:+ --app.seed.projects=$SEED_PROJECTS}\
+${SEED_MEMBERS_PER_PROJECT:+ --app.seed.members-per-project=$SEED_MEMBERS_PER_PROJECT}\
+${SEED_TASKS_PER_PROJECT:+ --app.seed.tasks-per-project=$SEED_TASKS_PER_PROJECT}"
+mvn -B -q spring-boot:test-run -Dspring-boot.run.profiles=loadtest -Dspring-boot.run.optimizedLaunch=false \
+    -Dspring-boot.run.arguments="$args" > "$OUT/server.log" 2>&1 &
+server=$!
+trap 'kill "$server" 2>/dev/null || true' EXIT
+
+# Seeding runs after the port opens, so wait for the seeder rather than for the port
+until grep -q 'Seeded\|Seed data already present' "$OUT/server.log"; do
+    if ! kill -0 "$server" 2>/dev/null; then
+        echo "Backend failed to start, see $OUT/server.log" >&2
+        exit 1
+    fi
+    sleep 1
+done
+grep 'Seeded' "$OUT/server.log" || true
+
+k6 run -e BASE_URL="$BASE_URL" -e SUMMARY_FILE="$OUT/summary.json" loadtest/seeded-load.js | tee "$OUT/k6.txt"
+echo "Results in $OUT"
@@ -0,0 +1,179 @@
+// k6 load scenario against a backend filled by LoadTestDataSeeder (loadtest profile): signins,
+// list and detail reads, task status churn and member changes at fixed arrival rates. Prints
+// p50/p95/p99 latency and throughput per endpoint.
+//
+//   loadtest/run-seeded-load.sh                         # starts the backend on H2 and runs this
+//   k6 run -e BASE_URL=http://localhost:8081 loadtest/seeded-load.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const USERS = parseInt(__ENV.USERS || '50');
+const PASSWORD = __ENV.PASSWORD || 'password';
+const DURATION = __ENV.DURATION || '2m';
+const SIGNIN_RATE = parseInt(__ENV.SIGNIN_RATE || '5');
+const LIST_RATE = parseInt(__ENV.LIST_RATE || '200');
+const STATUS_RATE = parseInt(__ENV.STATUS_RATE || '50');
+const MEMBER_RATE = parseInt(__ENV.MEMBER_RATE || '5');
+const STATUSES = ['TODO', 'IN_PROGRESS', 'REVIEW', 'DONE', 'BLOCKED'];
+
+const ENDPOINTS = [
+  'POST signin',
+  'GET projects',
+  'GET user projects',
+  'GET project',
+  'GET project tasks',
+  'GET assigned tasks',
+  'GET dashboard',
+  'PATCH task status',
+  'POST member',
+  'DELETE member',
+];
+
+// A threshold per endpoint makes k6 keep a sub-metric for it; they always pass
+const thresholds = {};
+ENDPOINTS.forEach(name => {
+  thresholds[`http_req_duration{name:${name}}`] = ['max>=0'];
+  thresholds[`http_reqs{name:${name}}`] = ['count>=0'];
+});
+
+function scenario(exec, rate) {
+  return {
+    executor: 'constant-arrival-rate',
+    exec,
+    rate,
+    timeUnit: '1s',
+    duration: DURATION,
+    preAllocatedVUs: Math.max(10, rate),
+    maxVUs: Math.max(100, rate * 10),
+  };
+}
+
+export const options = {
+  scenarios: {
+    signin: scenario('signin', SIGNIN_RATE),
+    listing: scenario('listing', LIST_RATE),
+    statusChurn: scenario('statusChurn', STATUS_RATE),
+    memberChurn: scenario('memberChurn', MEMBER_RATE),
+  },
+  thresholds,
+  summaryTrendStats: ['avg', 'min', 'med', 'p(95)', 'p(99)', 'max'],
+};
+
+function params(name, token) {
+  const headers = { 'Content-Type': 'application/json' };
+  if (token) {
+    headers.Authorization = `Bearer ${token}`;
+  }
+  return { headers, tags: { name } };
+}
+
+function pick(items) {
+  return items[Math.floor(Math.random() * items.length)];
+}
+
+function signinAs(index) {
+  return http.post(`${BASE_URL}/api/auth/signin`,
+    JSON.stringify({ username: `seed-user-${index}`, password: PASSWORD }), params('POST signin'));
+}
+
+// Signs in the first USERS seeded users and collects the projects they own and the tasks they can change
+export function setup() {
+  const users = [];
+  for (let i = 0; i < USERS; i++) {
+    const signin = signinAs(i);
+    if (signin.status !== 200) {
+      throw new Error(`Cannot sign in as seed-user-${i}; is the backend running with the loadtest profile?`);
+    }
+    const token = signin.json('token');
+    const id = signin.json('id');
+    const projects = http.get(`${BASE_URL}/api/projects/user`, params('setup', token)).json();
+    const tasks = http.get(`${BASE_URL}/api/tasks/assigned?limit=200`, params('setup', token)).json('items');
+    users.push({
+      token,
+      id,
+      projectIds: projects.map(project => project.id),
+      ownedProjectIds: projects.filter(project => project.owner.id === id).map(project => project.id),
+      taskIds: tasks.map(task => task.id),
+    });
+  }
+  const otherUserIds = http.get(`${BASE_URL}/api/users?limit=200`, params('setup', users[0].token))
+    .json('items').map(user => user.id);
+  return { users, otherUserIds };
+}
+
+export function signin() {
+  const response = signinAs(Math.floor(Math.random() * USERS));
+  check(response, { 'signin ok': r => r.status === 200 });
+}
+
+export function listing(data) {
+  const user = pick(data.users);
+  const requests = [
+    () => http.get(`${BASE_URL}/api/projects?limit=50`, params('GET projects', user.token)),
+    () => http.get(`${BASE_URL}/api/projects/user`, params('GET user projects', user.token)),
+    () => http.get(`${BASE_URL}/api/projects/${pick(user.projectIds)}`, params('GET project', user.token)),
+    () => http.get(`${BASE_URL}/api/tasks/project/${pick(user.projectIds)}?limit=50`, params('GET project tasks', user.token)),
+    () => http.get(`${BASE_URL}/api/tasks/assigned?limit=50`, params('GET assigned tasks', user.token)),
+    () => http.get(`${BASE_URL}/api/dashboard`, params('GET dashboard', user.token)),
+  ];
+  const response = pick(requests)();
+  check(response, { 'read ok': r => r.status === 200 });
+}
+
+export function statusChurn(data) {
+  const user = pick(data.users.filter(u => u.taskIds.length > 0));
+  const response = http.patch(`${BASE_URL}/api/tasks/${pick(user.taskIds)}/status?status=${pick(STATUSES)}`, null,
+    params('PATCH task status', user.token));
+  check(response, { 'status change ok': r => r.status === 200 });
+}
+
+// Adds a user to one of the owner's projects and removes them again, so membership stays the same size
+export function memberChurn(data) {
+  const owner = pick(data.users.filter(u => u.ownedProjectIds.length > 0));
+  const projectId = pick(owner.ownedProjectIds);
+  const userId = pick(data.otherUserIds.filter(id => id !== owner.id));
+  const added = http.post(`${BASE_URL}/api/projects/${projectId}/members/${userId}`, null,
+    params('POST member', owner.token));
+  const removed = http.del(`${BASE_URL}/api/projects/${projectId}/members/${userId}`, null,
+    params('DELETE member', owner.token));
+  check(added, { 'member add ok': r => r.status === 200 });
+  check(removed, { 'member remove ok': r => r.status === 200 });
+}
+
+function round(value) {
+  return value === undefined ? '-' : value.toFixed(2);
+}
+
+export function handleSummary(data) {
+  const seconds = data.state.testRunDurationMs / 1000;
+  const lines = [`${'endpoint'.padEnd(20)}${'requests'.padStart(10)}${'req/s'.padStart(10)}`
+    + `${'p50 ms'.padStart(10)}${'p95 ms'.padStart(10)}${'p99 ms'.padStart(10)}`];
+  const endpoints = {};
+  ENDPOINTS.forEach(name => {
+    const duration = data.metrics[`http_req_duration{name:${name}}`];
+    const requests = data.metrics[`http_reqs{name:${name}}`];
+    const count = requests ? requests.values.count : 0;
+    if (!duration || count === 0) {
+      return;
+    }
+    endpoints[name] = {
+      requests: count,
+      throughput: count / seconds,
+      p50: duration.values.med,
+      p95: duration.values['p(95)'],
+      p99: duration.values['p(99)'],
+    };
+    lines.push(`${name.padEnd(20)}${String(count).padStart(10)}${round(count / seconds).padStart(10)}`
+      + `${round(duration.values.med).padStart(10)}${round(duration.values['p(95)']).padStart(10)}`
+      + `${round(duration.values['p(99)']).padStart(10)}`);
+  });
+  const failed = data.metrics.http_req_failed ? data.metrics.http_req_failed.values.rate : 0;
+  lines.push(`\nFailed requests: ${(failed * 100).toFixed(2)}%`);
+
+  const output = { stdout: lines.join('\n') + '\n' };
+  if (__ENV.SUMMARY_FILE) {
+    output[__ENV.SUMMARY_FILE] = JSON.stringify({ durationSeconds: seconds, failedRate: failed, endpoints }, null, 2);
+  }
+  return output;
+}
@@ -0,0 +1,33 @@
+package com.projectmanagement.app.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Named registry of the application's in-process caches, so their statistics can be reported in one place.
+ * Registered caches are also exported as cache.* metrics tagged with their name.
+ */
+@Component
+public class CacheRegistry {
+    private final Map<String, Cache<?, ?>> caches = new ConcurrentSkipListMap<>();
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    public void register(String name, Cache<?, ?> cache) {
+        caches.put(name, cache);
+        if (meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+        }
+    }
+
+    public Map<String, Cache<?, ?>> getCaches() {
+        return caches;
+    }
+}
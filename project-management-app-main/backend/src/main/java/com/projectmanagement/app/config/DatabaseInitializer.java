@@ -3,15 +3,26 @@ package com.projectmanagement.app.config;
 import com.projectmanagement.app.model.ERole;
 import com.projectmanagement.app.model.Role;
 import com.projectmanagement.app.repository.RoleRepository;
+import com.projectmanagement.app.service.ProjectStatsService;
+import com.projectmanagement.app.service.SyncService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
 public class DatabaseInitializer implements CommandLineRunner {
     @Autowired
     private RoleRepository roleRepository;
 
+    @Autowired
+    private ProjectStatsService projectStatsService;
+
+    @Autowired
+    private SyncService syncService;
+
     @Override
     public void run(String... args) throws Exception {
         // Initialize roles if they don't exist
@@ -20,5 +31,8 @@ public class DatabaseInitializer implements CommandLineRunner {
                 roleRepository.save(new Role(role));
             }
         }
+
+        projectStatsService.createMissing();
+        syncService.fillMissingUpdatedAt();
     }
 }
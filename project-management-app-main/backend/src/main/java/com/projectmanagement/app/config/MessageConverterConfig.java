@@ -0,0 +1,31 @@
+package com.projectmanagement.app.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * CBOR and Smile encodings of every request and response body, for clients that send
+ * Accept: application/cbor or application/x-jackson-smile. They are built from the same Jackson settings as
+ * the JSON converter, so the documents carry the same fields in the same formats.
+ *
+ * The converters take the place of Spring MVC's defaults for these types, which come after JSON, so JSON
+ * stays the answer to requests without an Accept header or with one that allows anything.
+ */
+@Configuration
+public class MessageConverterConfig {
+    // The builder bean is a prototype, so each converter gets its own
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -0,0 +1,71 @@
+package com.projectmanagement.app.config;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Caffeine cache for values that are loaded from the database.
+ *
+ * A plain Caffeine cache runs the loader inside ConcurrentHashMap.compute, which holds a monitor, and a
+ * virtual thread that blocks on JDBC while holding a monitor stays pinned to its carrier thread. Here the
+ * map only receives an empty future; the calling thread loads the value after the map call has returned
+ * and completes the future, while concurrent callers for the same key wait on it. A load that is
+ * invalidated while in flight is still returned to its caller but is not kept.
+ */
+public class NonPinningCache<K, V> {
+    private final AsyncCache<K, V> cache;
+
+    public NonPinningCache(Caffeine<Object, Object> builder) {
+        this.cache = builder.buildAsync();
+    }
+
+    public V get(K key, Function<K, V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(key, (k, executor) -> created);
+        if (future == created) {
+            try {
+                created.complete(loader.apply(key));
+            } catch (RuntimeException | Error e) {
+                // Fails the waiting callers too and drops the entry
+                created.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public void put(K key, V value) {
+        cache.put(key, CompletableFuture.completedFuture(value));
+    }
+
+    public void invalidate(K key) {
+        cache.synchronous().invalidate(key);
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    // Completed entries only; loads still in flight are left out
+    public ConcurrentMap<K, V> asMap() {
+        return cache.synchronous().asMap();
+    }
+
+    // Shares the statistics of this cache, for CacheRegistry
+    public Cache<K, V> synchronous() {
+        return cache.synchronous();
+    }
+}
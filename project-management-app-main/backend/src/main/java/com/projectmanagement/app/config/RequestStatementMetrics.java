@@ -0,0 +1,138 @@
+package com.projectmanagement.app.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Counts the SQL statements executed while handling a request (see {@link StatementCountingDataSource})
+ * and records them in the jdbc.request.statements distribution, tagged like http.server.requests with
+ * method and uri. Requests above app.sql.request-statements.warn-threshold are logged. With
+ * app.sql.request-statements.header=true the count is also returned in the X-SQL-Statement-Count header,
+ * as of when the response body starts, so query budgets can be checked from outside.
+ *
+ * Runs ahead of the security filters so that principal lookups count too. Statements run on other
+ * threads, such as the dashboard's parallel queries, are not attributed to the request.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestStatementMetrics extends OncePerRequestFilter {
+    private static final Logger logger = LoggerFactory.getLogger(RequestStatementMetrics.class);
+
+    public static final String STATEMENT_COUNT_HEADER = "X-SQL-Statement-Count";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.sql.request-statements.warn-threshold:25}")
+    private int warnThreshold;
+
+    @Value("${app.sql.request-statements.header:false}")
+    private boolean countHeader;
+
+    private Meter.MeterProvider<DistributionSummary> statements;
+
+    @PostConstruct
+    void init() {
+        statements = DistributionSummary.builder("jdbc.request.statements")
+                .description("SQL statements executed per HTTP request")
+                .publishPercentileHistogram()
+                .withRegistry(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        StatementCountingDataSource.startCounting();
+        try {
+            filterChain.doFilter(request, countHeader ? new StatementCountHeaderResponse(response) : response);
+            // Responses without a body are still uncommitted here
+            if (countHeader && !response.isCommitted()) {
+                response.setIntHeader(STATEMENT_COUNT_HEADER, StatementCountingDataSource.currentCount());
+            }
+        } finally {
+            record(request, StatementCountingDataSource.stopCounting());
+        }
+    }
+
+    private void record(HttpServletRequest request, int count) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        statements.withTags("method", request.getMethod(), "uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                .record(count);
+        if (count > warnThreshold) {
+            logger.warn("{} {} executed {} SQL statements (threshold {})", request.getMethod(),
+                    request.getRequestURI(), count, warnThreshold);
+        }
+    }
+
+    // Adds the header just before the response is committed, after which headers can no longer be set
+    private static class StatementCountHeaderResponse extends HttpServletResponseWrapper {
+        private boolean headerAdded;
+
+        StatementCountHeaderResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        private void addCountHeader() {
+            if (!headerAdded && !isCommitted()) {
+                setIntHeader(STATEMENT_COUNT_HEADER, StatementCountingDataSource.currentCount());
+                headerAdded = true;
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addCountHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addCountHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addCountHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addCountHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addCountHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addCountHeader();
+            super.sendRedirect(location);
+        }
+    }
+}
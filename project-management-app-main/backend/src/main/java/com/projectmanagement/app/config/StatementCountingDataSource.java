@@ -0,0 +1,117 @@
+package com.projectmanagement.app.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * DataSource that counts the statements executed on the current thread while a count is open.
+ *
+ * Every execute call and every executeBatch counts as one statement, whether it comes from Hibernate,
+ * a JdbcTemplate or plain JDBC. Statements run on other threads are not counted. Counts nest: a count
+ * opened inside another, as a test does around a request that the request filter counts too, sees only
+ * its own statements and the outer count sees them as well.
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+    private static final ThreadLocal<Deque<int[]>> statementCounts = new ThreadLocal<>();
+
+    public StatementCountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    public static void startCounting() {
+        Deque<int[]> counts = statementCounts.get();
+        if (counts == null) {
+            counts = new ArrayDeque<>();
+            statementCounts.set(counts);
+        }
+        counts.push(new int[1]);
+    }
+
+    // Statements executed since the innermost startCounting, or 0 when not counting
+    public static int currentCount() {
+        Deque<int[]> counts = statementCounts.get();
+        return counts != null ? counts.peek()[0] : 0;
+    }
+
+    // Closes the innermost count and returns it
+    public static int stopCounting() {
+        Deque<int[]> counts = statementCounts.get();
+        if (counts == null) {
+            return 0;
+        }
+        int count = counts.pop()[0];
+        if (counts.isEmpty()) {
+            statementCounts.remove();
+        }
+        return count;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countingConnection(super.getConnection(username, password));
+    }
+
+    private static Connection countingConnection(Connection connection) {
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof CallableStatement statement) {
+                return countingStatement(CallableStatement.class, statement);
+            } else if (result instanceof PreparedStatement statement) {
+                return countingStatement(PreparedStatement.class, statement);
+            } else if (result instanceof Statement statement) {
+                return countingStatement(Statement.class, statement);
+            }
+            return result;
+        });
+    }
+
+    private static <S extends Statement> S countingStatement(Class<S> type, S statement) {
+        return proxy(type, statement, (proxy, method, args) -> {
+            if (method.getName().startsWith("execute")) {
+                Deque<int[]> counts = statementCounts.get();
+                if (counts != null) {
+                    for (int[] count : counts) {
+                        count[0]++;
+                    }
+                }
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> switch (method.getName()) {
+                    // Identity of the proxy itself, as the pool's own connection proxies do
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> handler.invoke(proxy, method, args);
+                });
+    }
+}
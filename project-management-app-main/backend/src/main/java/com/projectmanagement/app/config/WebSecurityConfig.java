@@ -3,20 +3,29 @@ package com.projectmanagement.app.config;
 import com.projectmanagement.app.security.jwt.AuthEntryPointJwt;
 import com.projectmanagement.app.security.jwt.AuthTokenFilter;
 import com.projectmanagement.app.security.services.UserDetailsServiceImpl;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+import org.springframework.util.StringUtils;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -33,6 +42,15 @@ public class WebSecurityConfig {
     @Autowired
     private AuthEntryPointJwt unauthorizedHandler;
 
+    @Value("${app.sql.request-statements.header:false}")
+    private boolean statementCountHeader;
+
+    @Value("${app.metrics.scrape-username:prometheus}")
+    private String scrapeUsername;
+
+    @Value("${app.metrics.scrape-password:}")
+    private String scrapePassword;
+
     @Bean
     public AuthTokenFilter authenticationJwtTokenFilter() {
         return new AuthTokenFilter();
@@ -58,6 +76,37 @@ public class WebSecurityConfig {
         return new BCryptPasswordEncoder();
     }
 
+    /**
+     * The Prometheus scrape endpoint also takes HTTP Basic credentials of a scraper account, since a
+     * scraper cannot renew a JWT that expires. Without app.metrics.scrape-password it is for admins only,
+     * like the other actuator endpoints.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain scrapeFilterChain(HttpSecurity http) throws Exception {
+        InMemoryUserDetailsManager scrapers = new InMemoryUserDetailsManager();
+        if (StringUtils.hasText(scrapePassword)) {
+            scrapers.createUser(User.withUsername(scrapeUsername)
+                    .password(passwordEncoder().encode(scrapePassword))
+                    .roles("METRICS")
+                    .build());
+        }
+        DaoAuthenticationProvider scraperProvider = new DaoAuthenticationProvider();
+        scraperProvider.setUserDetailsService(scrapers);
+        scraperProvider.setPasswordEncoder(passwordEncoder());
+
+        http
+            .securityMatcher("/actuator/prometheus")
+            .csrf(csrf -> csrf.disable())
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .authenticationManager(new ProviderManager(scraperProvider))
+            .httpBasic(Customizer.withDefaults())
+            .authorizeHttpRequests(auth -> auth.anyRequest().hasAnyRole("ADMIN", "METRICS"))
+            .addFilterBefore(authenticationJwtTokenFilter(), BasicAuthenticationFilter.class);
+
+        return http.build();
+    }
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -74,6 +123,8 @@ public class WebSecurityConfig {
             // Set permissions on endpoints
             .authorizeHttpRequests(auth -> 
                 auth
+                    // Async dispatches resume a request that was already authorized (streamed exports)
+                    .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                     // Public endpoints
                     .requestMatchers(
                         "/api/auth/**",
@@ -88,6 +139,9 @@ public class WebSecurityConfig {
                         "/webjars/**",
                         "/swagger-ui.html"
                     ).permitAll()
+                    // Health checks; the other actuator endpoints are for admins
+                    .requestMatchers("/actuator/health").permitAll()
+                    .requestMatchers("/actuator/**").hasRole("ADMIN")
                     // Private endpoints
                     .anyRequest().authenticated()
             );
@@ -107,6 +161,9 @@ public class WebSecurityConfig {
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("authorization", "content-type", "x-auth-token", "Authorization", "Content-Type", "Access-Control-Allow-Origin", "Origin", "Accept"));
         configuration.setExposedHeaders(Arrays.asList("x-auth-token", "Authorization"));
+        if (statementCountHeader) {
+            configuration.addExposedHeader(RequestStatementMetrics.STATEMENT_COUNT_HEADER);
+        }
         // Cannot use allowCredentials with allowedOrigin="*"
         configuration.setAllowCredentials(false);
         configuration.setMaxAge(3600L);
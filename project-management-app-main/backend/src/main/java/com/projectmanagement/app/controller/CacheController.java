@@ -0,0 +1,39 @@
+package com.projectmanagement.app.controller;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.projectmanagement.app.config.CacheRegistry;
+import com.projectmanagement.app.dto.CacheStatsResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/api/admin/caches")
+public class CacheController {
+    @Autowired
+    private CacheRegistry cacheRegistry;
+
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<CacheStatsResponse>> getCacheStats() {
+        List<CacheStatsResponse> stats = cacheRegistry.getCaches().entrySet().stream()
+                .map(entry -> {
+                    CacheStats cacheStats = entry.getValue().stats();
+                    CacheStatsResponse response = new CacheStatsResponse();
+                    response.setName(entry.getKey());
+                    response.setSize(entry.getValue().estimatedSize());
+                    response.setHitCount(cacheStats.hitCount());
+                    response.setMissCount(cacheStats.missCount());
+                    response.setHitRate(cacheStats.hitRate());
+                    response.setEvictionCount(cacheStats.evictionCount());
+                    return response;
+                })
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(stats);
+    }
+}
@@ -0,0 +1,28 @@
+package com.projectmanagement.app.controller;
+
+import com.projectmanagement.app.service.ChangeFeedService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/api/stream")
+public class ChangeFeedController {
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    @GetMapping(value = "/projects/{id}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('USER') or hasRole('MEMBER') or hasRole('ADMIN')")
+    public SseEmitter streamProject(@PathVariable Long id) {
+        return changeFeedService.subscribeToProject(id);
+    }
+
+    @GetMapping(value = "/me", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('USER') or hasRole('MEMBER') or hasRole('ADMIN')")
+    public SseEmitter streamMine() {
+        return changeFeedService.subscribeToUser();
+    }
+}
@@ -0,0 +1,30 @@
+package com.projectmanagement.app.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Function;
+
+/**
+ * Answers a GET whose ETag is known before its body: 304 Not Modified when If-None-Match matches,
+ * otherwise the body, which is only built then. Responses may be stored by the client as long as they
+ * are revalidated, in place of the no-store default of Spring Security. The ETag is the same whether the
+ * body is negotiated as JSON, CBOR or Smile, so Vary: Accept keeps stored copies of each format apart.
+ */
+final class ConditionalGet {
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalGet() {
+    }
+
+    static <T> ResponseEntity<T> respond(WebRequest request, String etag, Function<String, T> body) {
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE)
+                    .varyBy(HttpHeaders.ACCEPT).build();
+        }
+        return ResponseEntity.ok().cacheControl(REVALIDATE).varyBy(HttpHeaders.ACCEPT).body(body.apply(etag));
+    }
+}
@@ -0,0 +1,23 @@
+package com.projectmanagement.app.controller;
+
+import com.projectmanagement.app.dto.DashboardResponse;
+import com.projectmanagement.app.service.DashboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+    @Autowired
+    private DashboardService dashboardService;
+
+    @GetMapping
+    @PreAuthorize("hasRole('USER') or hasRole('MEMBER') or hasRole('ADMIN')")
+    public ResponseEntity<DashboardResponse> getDashboard() {
+        DashboardResponse dashboard = dashboardService.getDashboard();
+        return ResponseEntity.ok(dashboard);
+    }
+}
@@ -1,5 +1,6 @@
 package com.projectmanagement.app.controller;
 
+import com.projectmanagement.app.dto.CursorPage;
 import com.projectmanagement.app.dto.MessageResponse;
 import com.projectmanagement.app.dto.ProjectRequest;
 import com.projectmanagement.app.dto.ProjectResponse;
@@ -9,6 +10,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -21,23 +23,25 @@ public class ProjectController {
 
     @GetMapping
     @PreAuthorize("hasRole('USER') or hasRole('MEMBER') or hasRole('ADMIN')")
-    public ResponseEntity<List<ProjectResponse>> getAllProjects() {
-        List<ProjectResponse> projects = projectService.getAllProjects();
-        return ResponseEntity.ok(projects);
+    public ResponseEntity<CursorPage<ProjectResponse>> getAllProjects(@RequestParam(required = false) String cursor,
+                                                                      @RequestParam(required = false) Integer limit,
+                                                                      WebRequest request) {
+        return ConditionalGet.respond(request, projectService.getAllProjectsEtag(cursor, limit),
+                etag -> projectService.getAllProjects(cursor, limit));
     }
 
     @GetMapping("/user")
     @PreAuthorize("hasRole('USER') or hasRole('MEMBER') or hasRole('ADMIN')")
-    public ResponseEntity<List<ProjectResponse>> getUserProjects() {
-        List<ProjectResponse> projects = projectService.getCurrentUserProjects();
-        return ResponseEntity.ok(projects);
+    public ResponseEntity<List<ProjectResponse>> getUserProjects(WebRequest request) {
+        return ConditionalGet.respond(request, projectService.getCurrentUserProjectsEtag(),
+                etag -> projectService.getCurrentUserProjects());
     }
 
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('USER') or hasRole('MEMBER') or hasRole('ADMIN')")
-    public ResponseEntity<ProjectResponse> getProjectById(@PathVariable Long id) {
-        ProjectResponse project = projectService.getProjectById(id);
-        return ResponseEntity.ok(project);
+    public ResponseEntity<ProjectResponse> getProjectById(@PathVariable Long id, WebRequest request) {
+        return ConditionalGet.respond(request, projectService.getProjectEtag(id),
+                etag -> projectService.getProjectById(id, etag));
     }
 
     @PostMapping
@@ -0,0 +1,24 @@
+package com.projectmanagement.app.controller;
+
+import com.projectmanagement.app.dto.SyncResponse;
+import com.projectmanagement.app.service.SyncService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@CrossOrigin(origins = "*", maxAge = 3600)
+@RestController
+@RequestMapping("/api/sync")
+public class SyncController {
+    @Autowired
+    private SyncService syncService;
+
+    @GetMapping
+    @PreAuthorize("hasRole('USER') or hasRole('MEMBER') or hasRole('ADMIN')")
+    public ResponseEntity<SyncResponse> getChanges(@RequestParam(required = false) String since,
+                                                   @RequestParam(required = false) Integer limit) {
+        SyncResponse changes = syncService.getChanges(since, limit);
+        return ResponseEntity.ok(changes);
+    }
+}
@@ -1,14 +1,28 @@
 package com.projectmanagement.app.controller;
 
+import com.projectmanagement.app.dto.CursorPage;
 import com.projectmanagement.app.dto.MessageResponse;
+import com.projectmanagement.app.dto.TaskBatchDeleteRequest;
+import com.projectmanagement.app.dto.TaskBatchResponse;
+import com.projectmanagement.app.dto.TaskBatchStatusRequest;
+import com.projectmanagement.app.dto.TaskBatchUpdate;
+import com.projectmanagement.app.dto.TaskExportFormat;
 import com.projectmanagement.app.dto.TaskRequest;
 import com.projectmanagement.app.dto.TaskResponse;
+import com.projectmanagement.app.model.TaskStatus;
+import com.projectmanagement.app.service.TaskBatchService;
+import com.projectmanagement.app.service.TaskDueDateScheduler;
+import com.projectmanagement.app.service.TaskSearchService;
 import com.projectmanagement.app.service.TaskService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -19,32 +33,94 @@ public class TaskController {
     @Autowired
     private TaskService taskService;
 
+    @Autowired
+    private TaskBatchService taskBatchService;
+
+    @Autowired
+    private TaskSearchService taskSearchService;
+
+    @Autowired
+    private TaskDueDateScheduler taskDueDateScheduler;
+
     @GetMapping
     @PreAuthorize("hasRole('USER') or hasRole('MEMBER') or hasRole('ADMIN')")
-    public ResponseEntity<List<TaskResponse>> getAllTasks() {
-        List<TaskResponse> tasks = taskService.getAllTasks();
-        return ResponseEntity.ok(tasks);
+    public ResponseEntity<CursorPage<TaskResponse>> getAllTasks(@RequestParam(required = false) String cursor,
+                                                                @RequestParam(required = false) Integer limit,
+                                                                WebRequest request) {
+        return ConditionalGet.respond(request, taskService.getAllTasksEtag(cursor, limit),
+                etag -> taskService.getAllTasks(cursor, limit));
     }
 
     @GetMapping("/project/{projectId}")
     @PreAuthorize("hasRole('USER') or hasRole('MEMBER') or hasRole('ADMIN')")
-    public ResponseEntity<List<TaskResponse>> getTasksByProject(@PathVariable Long projectId) {
-        List<TaskResponse> tasks = taskService.getTasksByProject(projectId);
-        return ResponseEntity.ok(tasks);
+    public ResponseEntity<CursorPage<TaskResponse>> getTasksByProject(@PathVariable Long projectId,
+                                                                      @RequestParam(required = false) String cursor,
+                                                                      @RequestParam(required = false) Integer limit,
+                                                                      WebRequest request) {
+        return ConditionalGet.respond(request, taskService.getTasksByProjectEtag(projectId, cursor, limit),
+                etag -> taskService.getTasksByProject(projectId, cursor, limit));
     }
 
     @GetMapping("/assigned")
     @PreAuthorize("hasRole('USER') or hasRole('MEMBER') or hasRole('ADMIN')")
-    public ResponseEntity<List<TaskResponse>> getAssignedTasks() {
-        List<TaskResponse> tasks = taskService.getTasksAssignedToCurrentUser();
+    public ResponseEntity<CursorPage<TaskResponse>> getAssignedTasks(@RequestParam(required = false) String cursor,
+                                                                     @RequestParam(required = false) Integer limit,
+                                                                     WebRequest request) {
+        return ConditionalGet.respond(request, taskService.getTasksAssignedToCurrentUserEtag(cursor, limit),
+                etag -> taskService.getTasksAssignedToCurrentUser(cursor, limit));
+    }
+
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('USER') or hasRole('MEMBER') or hasRole('ADMIN')")
+    public ResponseEntity<List<TaskResponse>> searchTasks(@RequestParam String q,
+                                                          @RequestParam(required = false) Integer limit) {
+        List<TaskResponse> tasks = taskSearchService.search(q, limit);
+        return ResponseEntity.ok(tasks);
+    }
+
+    @GetMapping("/overdue")
+    @PreAuthorize("hasRole('USER') or hasRole('MEMBER') or hasRole('ADMIN')")
+    public ResponseEntity<List<TaskResponse>> getOverdueTasks(@RequestParam(required = false) Integer limit) {
+        List<TaskResponse> tasks = taskDueDateScheduler.getOverdueTasks(limit);
         return ResponseEntity.ok(tasks);
     }
 
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('USER') or hasRole('MEMBER') or hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportTasks(@RequestParam(defaultValue = "ndjson") String format,
+                                                             @RequestParam(required = false) Long projectId,
+                                                             @RequestParam(required = false) Long assigneeId,
+                                                             @RequestParam(required = false) String status) {
+        TaskExportFormat exportFormat;
+        try {
+            exportFormat = TaskExportFormat.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid export format: " + format);
+        }
+
+        // Validate before the response is committed; errors inside the stream can no longer change the status
+        TaskStatus taskStatus = null;
+        if (status != null) {
+            try {
+                taskStatus = TaskStatus.valueOf(status.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException("Invalid task status: " + status);
+            }
+        }
+        TaskStatus statusFilter = taskStatus;
+
+        StreamingResponseBody body = outputStream ->
+                taskService.exportTasks(projectId, assigneeId, statusFilter, exportFormat, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=tasks." + exportFormat.getFileExtension())
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('USER') or hasRole('MEMBER') or hasRole('ADMIN')")
-    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id) {
-        TaskResponse task = taskService.getTaskById(id);
-        return ResponseEntity.ok(task);
+    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id, WebRequest request) {
+        return ConditionalGet.respond(request, taskService.getTaskEtag(id), etag -> taskService.getTaskById(id, etag));
     }
 
     @PostMapping
@@ -88,4 +164,32 @@ public class TaskController {
         TaskResponse updatedTask = taskService.assignTask(id, userId);
         return ResponseEntity.ok(updatedTask);
     }
+
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('USER') or hasRole('MEMBER') or hasRole('ADMIN')")
+    public ResponseEntity<TaskBatchResponse> createTasks(@RequestBody List<TaskRequest> taskRequests) {
+        TaskBatchResponse result = taskBatchService.createTasks(taskRequests);
+        return ResponseEntity.ok(result);
+    }
+
+    @PutMapping("/batch")
+    @PreAuthorize("hasRole('USER') or hasRole('MEMBER') or hasRole('ADMIN')")
+    public ResponseEntity<TaskBatchResponse> updateTasks(@RequestBody List<TaskBatchUpdate> taskUpdates) {
+        TaskBatchResponse result = taskBatchService.updateTasks(taskUpdates);
+        return ResponseEntity.ok(result);
+    }
+
+    @PatchMapping("/batch/status")
+    @PreAuthorize("hasRole('USER') or hasRole('MEMBER') or hasRole('ADMIN')")
+    public ResponseEntity<TaskBatchResponse> updateTaskStatuses(@Valid @RequestBody TaskBatchStatusRequest request) {
+        TaskBatchResponse result = taskBatchService.updateTaskStatus(request);
+        return ResponseEntity.ok(result);
+    }
+
+    @DeleteMapping("/batch")
+    @PreAuthorize("hasRole('USER') or hasRole('MEMBER') or hasRole('ADMIN')")
+    public ResponseEntity<TaskBatchResponse> deleteTasks(@Valid @RequestBody TaskBatchDeleteRequest request) {
+        TaskBatchResponse result = taskBatchService.deleteTasks(request);
+        return ResponseEntity.ok(result);
+    }
 }
@@ -1,5 +1,6 @@
 package com.projectmanagement.app.controller;
 
+import com.projectmanagement.app.dto.CursorPage;
 import com.projectmanagement.app.dto.MessageResponse;
 import com.projectmanagement.app.dto.UserSummaryDto;
 import com.projectmanagement.app.service.UserService;
@@ -8,8 +9,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @CrossOrigin(origins = "*", maxAge = 3600)
 @RestController
 @RequestMapping("/api/users")
@@ -19,8 +18,9 @@ public class UserController {
 
     @GetMapping
     @PreAuthorize("hasRole('USER') or hasRole('MEMBER') or hasRole('ADMIN')")
-    public ResponseEntity<List<UserSummaryDto>> getAllUsers() {
-        List<UserSummaryDto> users = userService.getAllUsers();
+    public ResponseEntity<CursorPage<UserSummaryDto>> getAllUsers(@RequestParam(required = false) String cursor,
+                                                                  @RequestParam(required = false) Integer limit) {
+        CursorPage<UserSummaryDto> users = userService.getAllUsers(cursor, limit);
         return ResponseEntity.ok(users);
     }
 
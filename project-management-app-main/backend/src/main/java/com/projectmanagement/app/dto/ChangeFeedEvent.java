@@ -0,0 +1,22 @@
+package com.projectmanagement.app.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.projectmanagement.app.model.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// One change pushed to /api/stream subscribers; fields that do not apply to the type are left out
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChangeFeedEvent {
+    // e.g. task.status-changed, project.member-added
+    private String type;
+    private Long projectId;
+    private Long taskId;
+    private Long userId;
+    private TaskStatus status;
+    private Integer progressPercentage;
+}
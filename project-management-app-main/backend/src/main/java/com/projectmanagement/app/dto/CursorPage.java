@@ -0,0 +1,16 @@
+package com.projectmanagement.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPage<T> {
+    private List<T> items;
+    // Opaque cursor for the following page, null when this is the last page
+    private String next;
+}
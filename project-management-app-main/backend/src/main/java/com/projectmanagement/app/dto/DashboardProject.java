@@ -0,0 +1,29 @@
+package com.projectmanagement.app.dto;
+
+import com.projectmanagement.app.model.ProjectStatus;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+public class DashboardProject {
+    private Long id;
+    private String name;
+    private ProjectStatus status;
+    private long totalTasks;
+    private long completedTasks;
+    private LocalDateTime createdAt;
+
+    // Used by JPQL constructor expressions; projects without a stats row yet have no tasks
+    public DashboardProject(Long id, String name, ProjectStatus status, Long totalTasks, Long completedTasks,
+                            LocalDateTime createdAt) {
+        this.id = id;
+        this.name = name;
+        this.status = status;
+        this.totalTasks = totalTasks != null ? totalTasks : 0;
+        this.completedTasks = completedTasks != null ? completedTasks : 0;
+        this.createdAt = createdAt;
+    }
+}
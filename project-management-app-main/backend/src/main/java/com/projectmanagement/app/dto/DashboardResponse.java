@@ -0,0 +1,21 @@
+package com.projectmanagement.app.dto;
+
+import com.projectmanagement.app.model.ProjectStatus;
+import com.projectmanagement.app.model.TaskStatus;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+public class DashboardResponse {
+    private long totalProjects;
+    private long totalTasks;
+    private long overdueTasks;
+    private long completedTasks;
+    private Map<ProjectStatus, Long> projectsByStatus;
+    private Map<TaskStatus, Long> tasksByStatus;
+    private List<DashboardProject> recentProjects;
+    private List<TaskResponse> upcomingTasks;
+    private List<TaskResponse> overdueTaskList;
+}
@@ -0,0 +1,13 @@
+package com.projectmanagement.app.dto;
+
+public interface ProjectMemberSummary {
+    Long getProjectId();
+
+    Long getId();
+
+    String getUsername();
+
+    String getFullName();
+
+    String getEmail();
+}
@@ -1,10 +1,12 @@
 package com.projectmanagement.app.dto;
 
 import com.projectmanagement.app.model.ProjectStatus;
+import com.projectmanagement.app.model.TaskStatus;
 import lombok.Data;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Data
 public class ProjectResponse {
@@ -18,6 +20,9 @@ public class ProjectResponse {
     private List<UserSummaryDto> members;
     private int totalTasks;
     private int completedTasks;
+    private Map<TaskStatus, Long> tasksByStatus;
+    private int overdueTasks;
+    private double averageProgress;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
@@ -0,0 +1,9 @@
+package com.projectmanagement.app.dto;
+
+import com.projectmanagement.app.model.ProjectStatus;
+
+public interface ProjectStatusCount {
+    ProjectStatus getStatus();
+
+    long getCount();
+}
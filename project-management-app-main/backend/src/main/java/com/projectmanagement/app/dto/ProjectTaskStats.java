@@ -0,0 +1,21 @@
+package com.projectmanagement.app.dto;
+
+public interface ProjectTaskStats {
+    Long getProjectId();
+
+    long getTotalTasks();
+
+    long getTodoTasks();
+
+    long getInProgressTasks();
+
+    long getReviewTasks();
+
+    long getDoneTasks();
+
+    long getBlockedTasks();
+
+    long getOverdueTasks();
+
+    long getProgressSum();
+}
@@ -0,0 +1,10 @@
+package com.projectmanagement.app.dto;
+
+public interface ProjectVersion {
+    Long getId();
+
+    long getVersion();
+
+    // Revision of the task figures; null for a project without a project_stats row
+    Long getStatsRevision();
+}
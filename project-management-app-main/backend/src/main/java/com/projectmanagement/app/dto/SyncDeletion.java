@@ -0,0 +1,29 @@
+package com.projectmanagement.app.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.projectmanagement.app.model.Deletion;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+public class SyncDeletion {
+    private Deletion.Type type;
+    private Long id;
+    private Long projectId;
+    private LocalDateTime deletedAt;
+    // Position in the deletion log, not shown to clients
+    @JsonIgnore
+    private Long logId;
+
+    // Used by the JPQL constructor expression in DeletionRepository
+    public SyncDeletion(Long logId, Deletion.Type type, Long id, Long projectId, LocalDateTime deletedAt) {
+        this.logId = logId;
+        this.type = type;
+        this.id = id;
+        this.projectId = projectId;
+        this.deletedAt = deletedAt;
+    }
+}
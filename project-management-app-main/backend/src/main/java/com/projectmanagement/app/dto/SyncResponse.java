@@ -0,0 +1,21 @@
+package com.projectmanagement.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SyncResponse {
+    // True when the client must drop what it has first: a first sync, or a copy last complete before the deletion log
+    private boolean reset;
+    private List<ProjectResponse> projects;
+    private List<TaskResponse> tasks;
+    private List<SyncDeletion> deletions;
+    // Pass back as ?since= for the next page, or for the next sync once hasMore is false
+    private String watermark;
+    private boolean hasMore;
+}
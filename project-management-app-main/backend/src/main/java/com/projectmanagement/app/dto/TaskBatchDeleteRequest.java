@@ -0,0 +1,12 @@
+package com.projectmanagement.app.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class TaskBatchDeleteRequest {
+    @NotEmpty
+    private List<Long> taskIds;
+}
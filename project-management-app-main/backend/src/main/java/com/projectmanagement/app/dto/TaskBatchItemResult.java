@@ -0,0 +1,16 @@
+package com.projectmanagement.app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskBatchItemResult {
+    // Position of the item in the request
+    private int index;
+    private Long taskId;
+    private boolean success;
+    private String error;
+}
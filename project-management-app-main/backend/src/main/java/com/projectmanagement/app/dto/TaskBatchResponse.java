@@ -0,0 +1,18 @@
+package com.projectmanagement.app.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class TaskBatchResponse {
+    private int succeeded;
+    private int failed;
+    private List<TaskBatchItemResult> results;
+
+    public TaskBatchResponse(List<TaskBatchItemResult> results) {
+        this.results = results;
+        this.succeeded = (int) results.stream().filter(TaskBatchItemResult::isSuccess).count();
+        this.failed = results.size() - this.succeeded;
+    }
+}
@@ -0,0 +1,16 @@
+package com.projectmanagement.app.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class TaskBatchStatusRequest {
+    @NotEmpty
+    private List<Long> taskIds;
+
+    @NotNull
+    private String status;
+}
@@ -0,0 +1,10 @@
+package com.projectmanagement.app.dto;
+
+import lombok.Data;
+
+@Data
+public class TaskBatchUpdate {
+    private Long id;
+
+    private TaskRequest task;
+}
@@ -0,0 +1,18 @@
+package com.projectmanagement.app.dto;
+
+import com.projectmanagement.app.model.TaskStatus;
+
+import java.time.LocalDateTime;
+
+public interface TaskDueDocument {
+    Long getId();
+
+    Long getProjectId();
+
+    TaskStatus getStatus();
+
+    LocalDateTime getDueDate();
+
+    // When the task was last written
+    LocalDateTime getChangedAt();
+}
@@ -0,0 +1,20 @@
+package com.projectmanagement.app.dto;
+
+public enum TaskExportFormat {
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv");
+
+    private final String contentType;
+
+    TaskExportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileExtension() {
+        return name().toLowerCase();
+    }
+}
@@ -2,10 +2,12 @@ package com.projectmanagement.app.dto;
 
 import com.projectmanagement.app.model.TaskStatus;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 @Data
+@NoArgsConstructor
 public class TaskResponse {
     private Long id;
     private String title;
@@ -20,4 +22,26 @@ public class TaskResponse {
     private LocalDateTime updatedAt;
     private Integer progressPercentage;
     private boolean isOverdue;
+
+    // Used by the JPQL constructor expressions in TaskRepository
+    public TaskResponse(Long id, String title, String description, TaskStatus status, Integer priority,
+                        LocalDateTime dueDate, Long projectId, String projectName, Long assigneeId,
+                        String assigneeUsername, String assigneeFullName, String assigneeEmail,
+                        LocalDateTime createdAt, LocalDateTime updatedAt, Integer progressPercentage) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.status = status;
+        this.priority = priority;
+        this.dueDate = dueDate;
+        this.projectId = projectId;
+        this.projectName = projectName;
+        if (assigneeId != null) {
+            this.assignee = new UserSummaryDto(assigneeId, assigneeUsername, assigneeFullName, assigneeEmail);
+        }
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.progressPercentage = progressPercentage;
+        this.isOverdue = dueDate != null && dueDate.isBefore(LocalDateTime.now()) && status != TaskStatus.DONE;
+    }
 }
@@ -0,0 +1,11 @@
+package com.projectmanagement.app.dto;
+
+public interface TaskSearchDocument {
+    Long getId();
+
+    Long getProjectId();
+
+    String getTitle();
+
+    String getDescription();
+}
@@ -0,0 +1,11 @@
+package com.projectmanagement.app.dto;
+
+import com.projectmanagement.app.model.TaskStatus;
+
+public interface TaskStatusCount {
+    TaskStatus getStatus();
+
+    long getCount();
+
+    long getOverdue();
+}
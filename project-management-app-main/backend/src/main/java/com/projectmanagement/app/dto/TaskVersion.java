@@ -0,0 +1,18 @@
+package com.projectmanagement.app.dto;
+
+import com.projectmanagement.app.model.TaskStatus;
+
+import java.time.LocalDateTime;
+
+public interface TaskVersion {
+    Long getId();
+
+    long getVersion();
+
+    // Task responses carry the project name
+    long getProjectVersion();
+
+    TaskStatus getStatus();
+
+    LocalDateTime getDueDate();
+}
@@ -0,0 +1,15 @@
+package com.projectmanagement.app.event;
+
+/**
+ * Published when a project's own fields, its members, its task figures or its existence change.
+ * {@code userId} is the member added or removed.
+ */
+public record ProjectChangedEvent(Long projectId, Type type, Long userId) {
+    public enum Type {
+        CREATED, UPDATED, DELETED, MEMBER_ADDED, MEMBER_REMOVED, MEMBERS_REPLACED, STATS_CHANGED
+    }
+
+    public ProjectChangedEvent(Long projectId, Type type) {
+        this(projectId, type, null);
+    }
+}
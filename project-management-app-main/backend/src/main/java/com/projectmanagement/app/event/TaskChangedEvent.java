@@ -0,0 +1,19 @@
+package com.projectmanagement.app.event;
+
+import com.projectmanagement.app.model.Task;
+import com.projectmanagement.app.model.TaskStatus;
+
+/**
+ * Published when a task is created, modified or deleted, with its status and progress after the change.
+ * A task moved between projects is published once for each project, as MOVED for the one it left.
+ */
+public record TaskChangedEvent(Long taskId, Long projectId, Type type, TaskStatus status, Integer progressPercentage) {
+    public enum Type {
+        CREATED, UPDATED, STATUS_CHANGED, PROGRESS_CHANGED, ASSIGNED, MOVED, DELETED
+    }
+
+    public static TaskChangedEvent of(Task task, Type type) {
+        return new TaskChangedEvent(task.getId(), task.getProject().getId(), type, task.getStatus(),
+                task.getProgressPercentage());
+    }
+}
@@ -0,0 +1,10 @@
+package com.projectmanagement.app.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when an open task passes its due date. Tasks already overdue when they are written, or when
+ * the application starts, are not published.
+ */
+public record TaskOverdueEvent(Long taskId, Long projectId, LocalDateTime dueDate) {
+}
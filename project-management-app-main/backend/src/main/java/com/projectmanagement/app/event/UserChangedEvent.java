@@ -0,0 +1,7 @@
+package com.projectmanagement.app.event;
+
+/**
+ * Published when a user is deleted or their profile changes.
+ */
+public record UserChangedEvent(Long userId) {
+}
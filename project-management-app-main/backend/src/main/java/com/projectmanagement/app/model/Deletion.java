@@ -0,0 +1,51 @@
+package com.projectmanagement.app.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Tombstone of a deleted task or project, read by the sync endpoint so that clients can drop their copy.
+ * A deleted project takes its tasks with it; they get no tombstones of their own.
+ */
+@Entity
+@Table(name = "deletions")
+@Data
+@NoArgsConstructor
+public class Deletion {
+    public enum Type {
+        TASK, PROJECT
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "deletions_seq")
+    @SequenceGenerator(name = "deletions_seq", sequenceName = "deletions_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Type type;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    // Project of a deleted task, or the deleted project itself
+    @Column(nullable = false)
+    private Long projectId;
+
+    @Column(nullable = false)
+    private LocalDateTime deletedAt;
+
+    public Deletion(Type type, Long entityId, Long projectId) {
+        this.type = type;
+        this.entityId = entityId;
+        this.projectId = projectId;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        deletedAt = LocalDateTime.now();
+    }
+}
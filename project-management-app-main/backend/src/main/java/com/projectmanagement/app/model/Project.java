@@ -3,7 +3,9 @@ package com.projectmanagement.app.model;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
@@ -15,7 +17,8 @@ import java.util.Set;
 @AllArgsConstructor
 public class Project {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "projects_seq")
+    @SequenceGenerator(name = "projects_seq", sequenceName = "projects_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -43,9 +46,13 @@ public class Project {
         joinColumns = @JoinColumn(name = "project_id"),
         inverseJoinColumns = @JoinColumn(name = "user_id")
     )
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     private Set<User> members = new HashSet<>();
     
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     private Set<Task> tasks = new HashSet<>();
     
     @Column(nullable = false)
@@ -53,9 +60,16 @@ public class Project {
     
     private LocalDateTime updatedAt;
     
+    // Bumped on every update, including changes to the members; the project's ETag is built from it
+    @Version
+    @Column(nullable = false)
+    private long version;
+    
+    // Set on creation too, so that changes since a point in time are one range of the updatedAt index
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
         if (startDate == null) {
             startDate = LocalDateTime.now();
         }
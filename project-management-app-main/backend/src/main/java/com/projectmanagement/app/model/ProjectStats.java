@@ -0,0 +1,100 @@
+package com.projectmanagement.app.model;
+
+import com.projectmanagement.app.dto.ProjectTaskStats;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Task figures of one project, kept up to date by the task mutations that change them so that
+ * reading them does not scan the project's tasks. {@code ProjectStatsService} reconciles drift.
+ */
+@Entity
+@Table(name = "project_stats")
+@Data
+@NoArgsConstructor
+public class ProjectStats {
+    @Id
+    private Long projectId;
+
+    @Column(nullable = false)
+    private long totalTasks;
+
+    @Column(nullable = false)
+    private long todoTasks;
+
+    @Column(nullable = false)
+    private long inProgressTasks;
+
+    @Column(nullable = false)
+    private long reviewTasks;
+
+    @Column(nullable = false)
+    private long doneTasks;
+
+    @Column(nullable = false)
+    private long blockedTasks;
+
+    // Tasks only become overdue with time, so this is exact as of the last reconcile plus later edits
+    @Column(nullable = false)
+    private long overdueTasks;
+
+    @Column(nullable = false)
+    private long progressSum;
+
+    private LocalDateTime reconciledAt;
+
+    // Bumped whenever the figures change, by increments and by reconciles that find drift. Not a JPA
+    // @Version, since increments are bulk updates that a loaded row would then fail to save over.
+    @Column(nullable = false)
+    private long revision;
+
+    public ProjectStats(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public double getAverageProgress() {
+        return totalTasks == 0 ? 0 : (double) progressSum / totalTasks;
+    }
+
+    public Map<TaskStatus, Long> getTasksByStatus() {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        counts.put(TaskStatus.TODO, todoTasks);
+        counts.put(TaskStatus.IN_PROGRESS, inProgressTasks);
+        counts.put(TaskStatus.REVIEW, reviewTasks);
+        counts.put(TaskStatus.DONE, doneTasks);
+        counts.put(TaskStatus.BLOCKED, blockedTasks);
+        return counts;
+    }
+
+    /**
+     * Overwrites the figures with freshly computed ones and reports whether they had drifted.
+     */
+    public boolean reconcile(ProjectTaskStats actual, LocalDateTime now) {
+        List<Long> before = figures();
+        totalTasks = actual != null ? actual.getTotalTasks() : 0;
+        todoTasks = actual != null ? actual.getTodoTasks() : 0;
+        inProgressTasks = actual != null ? actual.getInProgressTasks() : 0;
+        reviewTasks = actual != null ? actual.getReviewTasks() : 0;
+        doneTasks = actual != null ? actual.getDoneTasks() : 0;
+        blockedTasks = actual != null ? actual.getBlockedTasks() : 0;
+        overdueTasks = actual != null ? actual.getOverdueTasks() : 0;
+        progressSum = actual != null ? actual.getProgressSum() : 0;
+        reconciledAt = now;
+        boolean drifted = !before.equals(figures());
+        if (drifted) {
+            revision++;
+        }
+        return drifted;
+    }
+
+    private List<Long> figures() {
+        return List.of(totalTasks, todoTasks, inProgressTasks, reviewTasks, doneTasks, blockedTasks,
+                overdueTasks, progressSum);
+    }
+}
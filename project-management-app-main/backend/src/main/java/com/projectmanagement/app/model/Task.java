@@ -12,8 +12,10 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 public class Task {
+    // Pooled sequence ids let Hibernate batch inserts, which IDENTITY columns prevent
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -46,9 +48,16 @@ public class Task {
     
     private Integer progressPercentage = 0;
     
+    // Bumped on every update; the task's ETag is built from it
+    @Version
+    @Column(nullable = false)
+    private long version;
+    
+    // Set on creation too, so that changes since a point in time are one range of the updatedAt index
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
     }
     
     @PreUpdate
@@ -3,7 +3,11 @@ package com.projectmanagement.app.model;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
+
 import java.util.HashSet;
 import java.util.Set;
 
@@ -33,15 +37,24 @@ public class User {
     @Column(nullable = false)
     private String fullName;
     
+    // Collections stay out of equals/hashCode so users keep a stable hash inside Project.members. roles is
+    // filled after the user itself is loaded; hashing it made Hibernate re-insert existing members.
+    // Batch fetching loads the roles of a page of users in one query instead of one per user
     @ManyToMany(fetch = FetchType.EAGER)
     @JoinTable(name = "user_roles", 
                joinColumns = @JoinColumn(name = "user_id"),
                inverseJoinColumns = @JoinColumn(name = "role_id"))
+    @EqualsAndHashCode.Exclude
+    @BatchSize(size = 100)
     private Set<Role> roles = new HashSet<>();
     
     @OneToMany(mappedBy = "owner", cascade = CascadeType.ALL, orphanRemoval = true)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     private Set<Project> ownedProjects = new HashSet<>();
     
     @ManyToMany(mappedBy = "members")
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     private Set<Project> memberProjects = new HashSet<>();
 }
@@ -0,0 +1,25 @@
+package com.projectmanagement.app.repository;
+
+import com.projectmanagement.app.dto.SyncDeletion;
+import com.projectmanagement.app.model.Deletion;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface DeletionRepository extends JpaRepository<Deletion, Long> {
+    // Keyset pages ordered by (deletedAt, id), up to but excluding :until
+    @Query("SELECT new com.projectmanagement.app.dto.SyncDeletion(d.id, d.type, d.entityId, d.projectId, d.deletedAt) " +
+           "FROM Deletion d WHERE (d.deletedAt > :deletedAt OR (d.deletedAt = :deletedAt AND d.id > :id)) " +
+           "AND d.deletedAt < :until ORDER BY d.deletedAt, d.id")
+    List<SyncDeletion> findAfter(LocalDateTime deletedAt, Long id, LocalDateTime until, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM Deletion d WHERE d.deletedAt < :before")
+    int deleteOlderThan(LocalDateTime before);
+}
@@ -1,21 +1,94 @@
 package com.projectmanagement.app.repository;
 
+import com.projectmanagement.app.dto.DashboardProject;
+import com.projectmanagement.app.dto.ProjectMemberSummary;
+import com.projectmanagement.app.dto.ProjectStatusCount;
+import com.projectmanagement.app.dto.ProjectVersion;
 import com.projectmanagement.app.model.Project;
-import com.projectmanagement.app.model.User;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
-    List<Project> findByOwner(User owner);
+    // Ids of the projects a user owns or is a member of. A union, so each half reads its own index; an OR
+    // of the two conditions over projects reads the whole table
+    String ACCESSIBLE_PROJECT_IDS = "(SELECT p2.id FROM Project p2 WHERE p2.owner.id = :userId " +
+            "UNION SELECT p3.id FROM Project p3 JOIN p3.members m WHERE m.id = :userId)";
+
+    @EntityGraph(attributePaths = "owner")
+    @Query("SELECT p FROM Project p WHERE p.id IN " + ACCESSIBLE_PROJECT_IDS)
+    List<Project> findAllProjectsByUserId(Long userId);
     
-    @Query("SELECT p FROM Project p JOIN p.members m WHERE m.id = :userId")
-    List<Project> findProjectsByMemberId(Long userId);
+    @Query("SELECT p.id FROM Project p WHERE p.id IN " + ACCESSIBLE_PROJECT_IDS)
+    List<Long> findAccessibleProjectIds(Long userId);
     
-    @Query("SELECT p FROM Project p WHERE p.owner.id = :userId OR p.id IN " +
-           "(SELECT p2.id FROM Project p2 JOIN p2.members m WHERE m.id = :userId)")
-    List<Project> findAllProjectsByUserId(Long userId);
+    @Query("SELECT COUNT(p) > 0 FROM Project p WHERE p.id = :projectId AND (p.owner.id = :userId OR " +
+           "EXISTS (SELECT 1 FROM p.members m WHERE m.id = :userId))")
+    boolean isOwnerOrMember(Long projectId, Long userId);
+    
+    @Query("SELECT p.owner.id FROM Project p WHERE p.id = :projectId " +
+           "UNION SELECT m.id FROM Project p JOIN p.members m WHERE p.id = :projectId")
+    List<Long> findUserIdsWithAccess(Long projectId);
+    
+    // Dashboard: the user's newest projects with their task figures, and project counts per status
+    @Query("SELECT new com.projectmanagement.app.dto.DashboardProject(p.id, p.name, p.status, s.totalTasks, " +
+           "s.doneTasks, p.createdAt) FROM Project p LEFT JOIN ProjectStats s ON s.projectId = p.id " +
+           "WHERE p.id IN " + ACCESSIBLE_PROJECT_IDS + " ORDER BY p.createdAt DESC, p.id DESC")
+    List<DashboardProject> findRecentDashboardProjects(Long userId, Limit limit);
+    
+    @Query("SELECT p.status AS status, COUNT(p) AS count FROM Project p WHERE p.id IN " +
+           ACCESSIBLE_PROJECT_IDS + " GROUP BY p.status")
+    List<ProjectStatusCount> countProjectsByStatus(Long userId);
+    
+    @Query("SELECT p.id FROM Project p ORDER BY p.id")
+    List<Long> findAllIds();
+    
+    // Members of a whole list of projects in one query over project_members joined to users
+    @Query("SELECT p.id AS projectId, m.id AS id, m.username AS username, m.fullName AS fullName, m.email AS email " +
+           "FROM Project p JOIN p.members m WHERE p.id IN :projectIds")
+    List<ProjectMemberSummary> findMemberSummariesByProjectIds(Collection<Long> projectIds);
+    
+    // Keyset pages ordered by (createdAt, id)
+    @EntityGraph(attributePaths = "owner")
+    Window<Project> findByOrderByCreatedAtAscIdAsc(ScrollPosition position, Limit limit);
+    
+    // Versions the ETags of project responses are built from, selected by the same filters as the responses
+    String PROJECT_VERSION_QUERY = "SELECT p.id AS id, p.version AS version, s.revision AS statsRevision " +
+            "FROM Project p LEFT JOIN ProjectStats s ON s.projectId = p.id ";
+    
+    @Query(PROJECT_VERSION_QUERY + "WHERE p.id = :id")
+    Optional<ProjectVersion> findVersionById(Long id);
+    
+    @Query(PROJECT_VERSION_QUERY + "WHERE p.createdAt >= :createdAt AND (p.createdAt > :createdAt OR p.id > :id) " +
+           "ORDER BY p.createdAt, p.id")
+    List<ProjectVersion> findVersionsAfter(LocalDateTime createdAt, Long id, Limit limit);
+    
+    @Query(PROJECT_VERSION_QUERY + "WHERE p.id IN " + ACCESSIBLE_PROJECT_IDS)
+    List<ProjectVersion> findAccessibleVersions(Long userId);
+    
+    // Sync: projects written after a keyset position on (updatedAt, id), up to but excluding :until
+    @EntityGraph(attributePaths = "owner")
+    @Query("SELECT p FROM Project p WHERE (p.updatedAt > :updatedAt OR (p.updatedAt = :updatedAt AND p.id > :id)) " +
+           "AND p.updatedAt < :until ORDER BY p.updatedAt, p.id")
+    List<Project> findUpdatedAfter(LocalDateTime updatedAt, Long id, LocalDateTime until, Limit limit);
+    
+    @EntityGraph(attributePaths = "owner")
+    @Query("SELECT p FROM Project p WHERE p.id IN :ids")
+    List<Project> findWithOwnerByIdIn(Collection<Long> ids);
+    
+    // Rows written before updatedAt was set on creation
+    @Modifying
+    @Query("UPDATE Project p SET p.updatedAt = p.createdAt, p.version = p.version + 1 WHERE p.updatedAt IS NULL")
+    int fillMissingUpdatedAt();
 }
@@ -0,0 +1,37 @@
+package com.projectmanagement.app.repository;
+
+import com.projectmanagement.app.model.ProjectStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProjectStatsRepository extends JpaRepository<ProjectStats, Long> {
+    // Applied in place so concurrent transactions add up instead of overwriting each other
+    @Modifying
+    @Query("UPDATE ProjectStats s SET s.totalTasks = s.totalTasks + :total, s.todoTasks = s.todoTasks + :todo, " +
+           "s.inProgressTasks = s.inProgressTasks + :inProgress, s.reviewTasks = s.reviewTasks + :review, " +
+           "s.doneTasks = s.doneTasks + :done, s.blockedTasks = s.blockedTasks + :blocked, " +
+           "s.overdueTasks = s.overdueTasks + :overdue, s.progressSum = s.progressSum + :progress, " +
+           "s.revision = s.revision + 1 " +
+           "WHERE s.projectId = :projectId")
+    int increment(Long projectId, long total, long todo, long inProgress, long review, long done, long blocked,
+                  long overdue, long progress);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProjectStats s WHERE s.projectId = :projectId")
+    Optional<ProjectStats> findForUpdate(Long projectId);
+    
+    @Query("SELECT p.id FROM Project p WHERE NOT EXISTS (SELECT s FROM ProjectStats s WHERE s.projectId = p.id)")
+    List<Long> findProjectIdsWithoutStats();
+    
+    @Modifying
+    @Query("DELETE FROM ProjectStats s WHERE NOT EXISTS (SELECT p FROM Project p WHERE p.id = s.projectId)")
+    int deleteOrphans();
+}
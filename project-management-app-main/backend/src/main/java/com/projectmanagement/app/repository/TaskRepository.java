@@ -1,29 +1,141 @@
 package com.projectmanagement.app.repository;
 
-import com.projectmanagement.app.model.Project;
+import com.projectmanagement.app.dto.ProjectTaskStats;
+import com.projectmanagement.app.dto.TaskDueDocument;
+import com.projectmanagement.app.dto.TaskResponse;
+import com.projectmanagement.app.dto.TaskSearchDocument;
+import com.projectmanagement.app.dto.TaskStatusCount;
+import com.projectmanagement.app.dto.TaskVersion;
 import com.projectmanagement.app.model.Task;
 import com.projectmanagement.app.model.TaskStatus;
-import com.projectmanagement.app.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
-    List<Task> findByProject(Project project);
+    // Builds TaskResponse rows with project name and assignee in one joined query
+    String TASK_RESPONSE_QUERY = "SELECT new com.projectmanagement.app.dto.TaskResponse(" +
+            "t.id, t.title, t.description, t.status, t.priority, t.dueDate, p.id, p.name, " +
+            "a.id, a.username, a.fullName, a.email, t.createdAt, t.updatedAt, t.progressPercentage) " +
+            "FROM Task t JOIN t.project p LEFT JOIN t.assignee a ";
+
+    // The leading createdAt >= bound is implied by the rest but lets the planner read an index range
+    String AFTER_CREATED_AT = "t.createdAt >= :createdAt AND (t.createdAt > :createdAt OR t.id > :id) ";
+
+    // Recomputes the project_stats figures from the tasks themselves
+    @Query("SELECT t.project.id AS projectId, COUNT(t) AS totalTasks, " +
+           "SUM(CASE WHEN t.status = com.projectmanagement.app.model.TaskStatus.TODO THEN 1 ELSE 0 END) AS todoTasks, " +
+           "SUM(CASE WHEN t.status = com.projectmanagement.app.model.TaskStatus.IN_PROGRESS THEN 1 ELSE 0 END) AS inProgressTasks, " +
+           "SUM(CASE WHEN t.status = com.projectmanagement.app.model.TaskStatus.REVIEW THEN 1 ELSE 0 END) AS reviewTasks, " +
+           "SUM(CASE WHEN t.status = com.projectmanagement.app.model.TaskStatus.DONE THEN 1 ELSE 0 END) AS doneTasks, " +
+           "SUM(CASE WHEN t.status = com.projectmanagement.app.model.TaskStatus.BLOCKED THEN 1 ELSE 0 END) AS blockedTasks, " +
+           "SUM(CASE WHEN t.dueDate < :now AND t.status <> com.projectmanagement.app.model.TaskStatus.DONE THEN 1 ELSE 0 END) AS overdueTasks, " +
+           "SUM(COALESCE(t.progressPercentage, 0)) AS progressSum " +
+           "FROM Task t WHERE t.project.id IN :projectIds GROUP BY t.project.id")
+    List<ProjectTaskStats> findTaskStatsByProjectIds(Collection<Long> projectIds, LocalDateTime now);
+    
+    // Dashboard: assigned task counts per status, and the first open tasks by due date
+    @Query("SELECT t.status AS status, COUNT(t) AS count, " +
+           "SUM(CASE WHEN t.dueDate < :now THEN 1 ELSE 0 END) AS overdue " +
+           "FROM Task t WHERE t.assignee.id = :assigneeId GROUP BY t.status")
+    List<TaskStatusCount> countTasksByStatus(Long assigneeId, LocalDateTime now);
+    
+    @Query(TASK_RESPONSE_QUERY + "WHERE a.id = :assigneeId AND t.status <> com.projectmanagement.app.model.TaskStatus.DONE " +
+           "AND (t.dueDate IS NULL OR t.dueDate >= :now) ORDER BY t.dueDate ASC NULLS LAST, t.id")
+    List<TaskResponse> findUpcomingTaskResponses(Long assigneeId, LocalDateTime now, Limit limit);
+    
+    @Query(TASK_RESPONSE_QUERY + "WHERE a.id = :assigneeId AND t.status <> com.projectmanagement.app.model.TaskStatus.DONE " +
+           "AND t.dueDate < :now ORDER BY t.dueDate ASC, t.id")
+    List<TaskResponse> findOverdueTaskResponses(Long assigneeId, LocalDateTime now, Limit limit);
+    
+    // Keyset pages of TaskResponse rows ordered by (createdAt, id)
+    @Query(TASK_RESPONSE_QUERY + "WHERE " + AFTER_CREATED_AT + "ORDER BY t.createdAt, t.id")
+    List<TaskResponse> findTaskResponsesAfter(LocalDateTime createdAt, Long id, Limit limit);
+    
+    @Query(TASK_RESPONSE_QUERY + "WHERE p.id = :projectId AND " + AFTER_CREATED_AT + "ORDER BY t.createdAt, t.id")
+    List<TaskResponse> findTaskResponsesByProjectIdAfter(Long projectId, LocalDateTime createdAt, Long id, Limit limit);
+    
+    @Query(TASK_RESPONSE_QUERY + "WHERE a.id = :assigneeId AND " + AFTER_CREATED_AT + "ORDER BY t.createdAt, t.id")
+    List<TaskResponse> findTaskResponsesByAssigneeIdAfter(Long assigneeId, LocalDateTime createdAt, Long id, Limit limit);
+    
+    @Query(TASK_RESPONSE_QUERY + "WHERE t.id IN :ids")
+    List<TaskResponse> findTaskResponsesByIds(Collection<Long> ids);
+    
+    // Versions the ETags of task responses are built from, selected by the same filters as the responses.
+    // The project version is a subquery rather than a join so that the tasks index decides the plan
+    String TASK_VERSION_QUERY = "SELECT t.id AS id, t.version AS version, " +
+            "(SELECT p.version FROM Project p WHERE p.id = t.project.id) AS projectVersion, " +
+            "t.status AS status, t.dueDate AS dueDate FROM Task t ";
+    
+    @Query(TASK_VERSION_QUERY + "WHERE t.id = :id")
+    Optional<TaskVersion> findVersionById(Long id);
+    
+    @Query(TASK_VERSION_QUERY + "WHERE " + AFTER_CREATED_AT + "ORDER BY t.createdAt, t.id")
+    List<TaskVersion> findVersionsAfter(LocalDateTime createdAt, Long id, Limit limit);
+    
+    @Query(TASK_VERSION_QUERY + "WHERE t.project.id = :projectId AND " + AFTER_CREATED_AT + "ORDER BY t.createdAt, t.id")
+    List<TaskVersion> findVersionsByProjectIdAfter(Long projectId, LocalDateTime createdAt, Long id, Limit limit);
+    
+    @Query(TASK_VERSION_QUERY + "WHERE t.assignee.id = :assigneeId AND " + AFTER_CREATED_AT + "ORDER BY t.createdAt, t.id")
+    List<TaskVersion> findVersionsByAssigneeIdAfter(Long assigneeId, LocalDateTime createdAt, Long id, Limit limit);
+    
+    // Sync: tasks written after a keyset position on (updatedAt, id), up to but excluding :until
+    @Query(TASK_RESPONSE_QUERY + "WHERE (t.updatedAt > :updatedAt OR (t.updatedAt = :updatedAt AND t.id > :id)) " +
+           "AND t.updatedAt < :until ORDER BY t.updatedAt, t.id")
+    List<TaskResponse> findTaskResponsesUpdatedAfter(LocalDateTime updatedAt, Long id, LocalDateTime until, Limit limit);
+    
+    // Rows written before updatedAt was set on creation
+    @Modifying
+    @Query("UPDATE Task t SET t.updatedAt = t.createdAt, t.version = t.version + 1 WHERE t.updatedAt IS NULL")
+    int fillMissingUpdatedAt();
+    
+    // Search index input: the bulk load streams every task, later changes are reloaded by id
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t.id AS id, t.project.id AS projectId, t.title AS title, t.description AS description FROM Task t")
+    Stream<TaskSearchDocument> streamSearchDocuments();
     
-    List<Task> findByAssignee(User assignee);
+    @Query("SELECT t.id AS id, t.project.id AS projectId, t.title AS title, t.description AS description " +
+           "FROM Task t WHERE t.id IN :ids")
+    List<TaskSearchDocument> findSearchDocumentsByIds(Collection<Long> ids);
     
-    List<Task> findByProjectAndStatus(Project project, TaskStatus status);
+    // Due date scheduler input: open tasks with a due date are streamed at startup, later changes reloaded by id
+    String DUE_DOCUMENT_QUERY = "SELECT t.id AS id, t.project.id AS projectId, t.status AS status, t.dueDate AS dueDate, " +
+            "COALESCE(t.updatedAt, t.createdAt) AS changedAt FROM Task t ";
     
-    List<Task> findByDueDateBefore(LocalDateTime date);
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(DUE_DOCUMENT_QUERY + "WHERE t.dueDate IS NOT NULL AND t.status <> com.projectmanagement.app.model.TaskStatus.DONE")
+    Stream<TaskDueDocument> streamOpenDueDocuments();
     
-    @Query("SELECT t FROM Task t WHERE t.project.id = :projectId")
-    List<Task> findTasksByProjectId(Long projectId);
+    @Query(DUE_DOCUMENT_QUERY + "WHERE t.id IN :ids")
+    List<TaskDueDocument> findDueDocumentsByIds(Collection<Long> ids);
     
-    @Query("SELECT t FROM Task t WHERE t.assignee.id = :userId")
-    List<Task> findTasksByAssigneeId(Long userId);
+    // Server-side cursor for exports; must be consumed inside a transaction and closed
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Task t JOIN FETCH t.project LEFT JOIN FETCH t.assignee " +
+           "WHERE (:projectId IS NULL OR t.project.id = :projectId) " +
+           "AND (:assigneeId IS NULL OR t.assignee.id = :assigneeId) " +
+           "AND (:status IS NULL OR t.status = :status) " +
+           "ORDER BY t.id")
+    Stream<Task> streamForExport(Long projectId, Long assigneeId, TaskStatus status);
 }
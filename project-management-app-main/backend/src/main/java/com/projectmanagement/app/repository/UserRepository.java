@@ -1,6 +1,9 @@
 package com.projectmanagement.app.repository;
 
 import com.projectmanagement.app.model.User;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,9 +13,10 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
     
-    Optional<User> findByEmail(String email);
-    
     Boolean existsByUsername(String username);
     
     Boolean existsByEmail(String email);
+    
+    // Keyset pages ordered by (username, id)
+    Window<User> findByOrderByUsernameAscIdAsc(ScrollPosition position, Limit limit);
 }
@@ -1,6 +1,7 @@
 package com.projectmanagement.app.security.jwt;
 
-import com.projectmanagement.app.security.services.UserDetailsServiceImpl;
+import com.projectmanagement.app.security.services.UserPrincipalCache;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,7 +24,7 @@ public class AuthTokenFilter extends OncePerRequestFilter {
     private JwtUtils jwtUtils;
 
     @Autowired
-    private UserDetailsServiceImpl userDetailsService;
+    private UserPrincipalCache userPrincipalCache;
 
     @Value("${app.jwt.header}")
     private String headerName;
@@ -52,12 +53,13 @@ public class AuthTokenFilter extends OncePerRequestFilter {
             
             if (jwt != null) {
                 logger.debug("Validating JWT token...");
-                if (jwtUtils.validateJwtToken(jwt)) {
-                    String username = jwtUtils.getUserNameFromJwtToken(jwt);
+                Claims claims = jwtUtils.getVerifiedClaims(jwt);
+                if (claims != null) {
+                    String username = claims.getSubject();
                     logger.debug("JWT token is valid for user: {}", username);
 
                     try {
-                        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                        UserDetails userDetails = userPrincipalCache.get(username);
                         UsernamePasswordAuthenticationToken authentication =
                                 new UsernamePasswordAuthenticationToken(
                                         userDetails,
@@ -0,0 +1,66 @@
+package com.projectmanagement.app.security.services;
+
+import com.projectmanagement.app.dto.UserSummaryDto;
+import com.projectmanagement.app.model.User;
+import com.projectmanagement.app.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The caller of the current request, answered from the {@link UserDetailsImpl} principal
+ * that the JWT filter already resolved, so services never query the users table for it.
+ */
+@Component
+@RequestScope
+public class AuthenticatedUser {
+    @Autowired
+    private UserRepository userRepository;
+
+    private UserDetailsImpl principal;
+
+    public Long getId() {
+        return principal().getId();
+    }
+
+    public String getUsername() {
+        return principal().getUsername();
+    }
+
+    public Set<String> getRoles() {
+        return principal().getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Lazy reference to the caller's entity, for associations such as a project owner.
+     * Reading anything but the id from it will load the row.
+     */
+    public User getReference() {
+        return userRepository.getReferenceById(getId());
+    }
+
+    public UserSummaryDto toUserSummaryDto() {
+        UserDetailsImpl userDetails = principal();
+        return new UserSummaryDto(userDetails.getId(), userDetails.getUsername(),
+                userDetails.getFullName(), userDetails.getEmail());
+    }
+
+    private UserDetailsImpl principal() {
+        if (principal == null) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication == null || !(authentication.getPrincipal() instanceof UserDetailsImpl)) {
+                throw new RuntimeException("Current user not found");
+            }
+            principal = (UserDetailsImpl) authentication.getPrincipal();
+        }
+        return principal;
+    }
+}
@@ -0,0 +1,51 @@
+package com.projectmanagement.app.security.services;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projectmanagement.app.config.CacheRegistry;
+import com.projectmanagement.app.config.NonPinningCache;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Caches the principals built by {@link UserDetailsServiceImpl} so that authenticating a JWT
+ * does not query users and user_roles on every request. Entries must be evicted whenever a
+ * user is deleted or their roles change.
+ */
+@Component
+public class UserPrincipalCache {
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Autowired
+    private CacheRegistry cacheRegistry;
+
+    @Value("${app.security.principal-cache.size:10000}")
+    private long maximumSize;
+
+    @Value("${app.security.principal-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private NonPinningCache<String, UserDetailsImpl> principals;
+
+    @PostConstruct
+    public void init() {
+        principals = new NonPinningCache<>(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats());
+        cacheRegistry.register("principals", principals.synchronous());
+    }
+
+    public UserDetailsImpl get(String username) throws UsernameNotFoundException {
+        return principals.get(username, name -> (UserDetailsImpl) userDetailsService.loadUserByUsername(name));
+    }
+
+    public void evict(String username) {
+        principals.invalidate(username);
+    }
+}
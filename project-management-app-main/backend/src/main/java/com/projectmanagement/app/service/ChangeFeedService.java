@@ -0,0 +1,462 @@
+package com.projectmanagement.app.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagement.app.dto.ChangeFeedEvent;
+import com.projectmanagement.app.event.ProjectChangedEvent;
+import com.projectmanagement.app.event.TaskChangedEvent;
+import com.projectmanagement.app.event.TaskOverdueEvent;
+import com.projectmanagement.app.repository.ProjectRepository;
+import com.projectmanagement.app.security.services.AuthenticatedUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Pushes committed project and task changes to Server-Sent Events subscribers.
+ *
+ * A subscriber follows one project, or every project its user can access. Committed changes are handed to
+ * a single dispatcher thread, so the publishing request never waits. The dispatcher owns the index of
+ * subscribers by project and by user, serializes each change once and queues it for every subscriber that
+ * follows the project. It also follows membership changes, so a user stream picks up projects its user
+ * joins and a project stream ends when its user loses access.
+ *
+ * Each subscriber has a bounded queue drained by a sender thread. A subscriber that falls a whole queue
+ * behind loses the backlog and gets a single resync event instead, telling the client to refetch. A write
+ * to a client that has stopped reading blocks its sender, so a subscriber whose write has not returned
+ * within app.stream.send-timeout-ms is dropped, and its sender no longer counts against sender-threads
+ * until the write fails. Heartbeat comments keep idle connections open through proxies and find
+ * connections that have gone away.
+ */
+@Service
+public class ChangeFeedService {
+    private static final Logger logger = LoggerFactory.getLogger(ChangeFeedService.class);
+
+    private static final Message HEARTBEAT = new Message(SseEmitter.event().comment("heartbeat").build(), false);
+
+    private static final Message RESYNC = new Message(SseEmitter.event().name("resync").data("{}").build(), false);
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectMembershipService projectMembershipService;
+
+    @Autowired
+    private AuthenticatedUser authenticatedUser;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${app.stream.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${app.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${app.stream.reconnect-ms:3000}")
+    private long reconnectMs;
+
+    @Value("${app.stream.sender-threads:4}")
+    private int senderThreads;
+
+    @Value("${app.stream.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    // Dispatcher thread only
+    private final Map<Long, Set<Subscriber>> byProject = new HashMap<>();
+
+    // User streams by user, dispatcher thread only
+    private final Map<Long, Set<Subscriber>> byUser = new HashMap<>();
+
+    private ExecutorService dispatcher;
+
+    private AsyncTaskExecutor senders;
+
+    private Counter resyncs;
+
+    private Counter stalledSends;
+
+    // Senders blocked in the writes of dropped subscribers, added on top of sender-threads
+    private int stalledSenders;
+
+    /**
+     * A sender thread is busy while it writes to one subscriber, so with platform threads a slow client
+     * holds one of sender-threads until its write times out; with virtual threads each subscriber being
+     * written to gets its own.
+     */
+    @PostConstruct
+    public void init() {
+        dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "change-feed-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("change-feed-sender-");
+            executor.setVirtualThreads(true);
+            senders = executor;
+        } else {
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(senderThreads);
+            executor.setMaxPoolSize(senderThreads);
+            executor.setThreadNamePrefix("change-feed-sender-");
+            executor.setDaemon(true);
+            executor.initialize();
+            senders = executor;
+        }
+        Gauge.builder("app.stream.subscribers", subscribers, Set::size)
+                .description("Open change feed connections")
+                .register(meterRegistry);
+        resyncs = Counter.builder("app.stream.resyncs")
+                .description("Change feed backlogs dropped because the subscriber fell behind")
+                .register(meterRegistry);
+        stalledSends = Counter.builder("app.stream.stalled-sends")
+                .description("Change feed subscribers dropped because a write to them stalled")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        if (senders instanceof ThreadPoolTaskExecutor executor) {
+            executor.shutdown();
+        }
+    }
+
+    public SseEmitter subscribeToProject(Long projectId) {
+        Long userId = authenticatedUser.getId();
+        projectMembershipService.checkAccess(projectId, userId, "You don't have access to this project");
+        return subscribe(new Subscriber(userId, projectId), Set.of(projectId));
+    }
+
+    public SseEmitter subscribeToUser() {
+        Long userId = authenticatedUser.getId();
+        return subscribe(new Subscriber(userId, null), new HashSet<>(projectRepository.findAccessibleProjectIds(userId)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        ChangeFeedEvent change = new ChangeFeedEvent("task." + typeName(event.type()), event.projectId(),
+                event.taskId(), null, event.status(), event.progressPercentage());
+        dispatch(() -> send(followers(event.projectId()), change));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskOverdue(TaskOverdueEvent event) {
+        ChangeFeedEvent change = new ChangeFeedEvent("task.overdue", event.projectId(), event.taskId(), null, null,
+                null);
+        dispatch(() -> send(followers(event.projectId()), change));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        ChangeFeedEvent change = new ChangeFeedEvent("project." + typeName(event.type()), event.projectId(), null,
+                event.userId(), null, null);
+        dispatch(() -> projectChanged(event, change));
+    }
+
+    @Scheduled(fixedDelayString = "${app.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            // Anything already queued keeps the connection alive as well
+            if (subscriber.queue.isEmpty()) {
+                subscriber.offer(HEARTBEAT);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void dropStalledSubscribers() {
+        long startedBefore = System.currentTimeMillis() - sendTimeoutMs;
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.stallIfSendingSince(startedBefore)) {
+                stalledSends.increment();
+                unsubscribe(subscriber);
+                subscriber.queue.clear();
+                // Another thread takes over the stalled one's share of the other subscribers
+                resizeSenders(1);
+                logger.warn("Dropped change feed subscriber of user {}: a write did not return within {} ms",
+                        subscriber.userId, sendTimeoutMs);
+            }
+        }
+    }
+
+    private synchronized void resizeSenders(int stalledChange) {
+        if (senders instanceof ThreadPoolTaskExecutor executor) {
+            stalledSenders += stalledChange;
+            int size = senderThreads + stalledSenders;
+            // The core size may never exceed the maximum, so the order depends on the direction
+            if (stalledChange > 0) {
+                executor.setMaxPoolSize(size);
+                executor.setCorePoolSize(size);
+            } else {
+                executor.setCorePoolSize(size);
+                executor.setMaxPoolSize(size);
+            }
+        }
+    }
+
+    private SseEmitter subscribe(Subscriber subscriber, Set<Long> projectIds) {
+        subscriber.emitter.onCompletion(() -> unsubscribe(subscriber));
+        subscriber.emitter.onTimeout(() -> unsubscribe(subscriber));
+        subscriber.emitter.onError(error -> unsubscribe(subscriber));
+        subscribers.add(subscriber);
+        dispatch(() -> {
+            if (subscriber.closed) {
+                return;
+            }
+            projectIds.forEach(projectId -> follow(subscriber, projectId));
+            if (subscriber.projectId == null) {
+                byUser.computeIfAbsent(subscriber.userId, id -> new HashSet<>()).add(subscriber);
+            }
+        });
+        // Sent right away, so the response starts and the client learns how long to wait before reconnecting
+        subscriber.offer(new Message(SseEmitter.event().reconnectTime(reconnectMs).comment("connected").build(), false));
+        return subscriber.emitter;
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscriber.closed = true;
+        if (subscribers.remove(subscriber)) {
+            dispatch(() -> {
+                new ArrayList<>(subscriber.projectIds).forEach(projectId -> unfollow(subscriber, projectId));
+                Set<Subscriber> userSubscribers = byUser.get(subscriber.userId);
+                if (userSubscribers != null && userSubscribers.remove(subscriber) && userSubscribers.isEmpty()) {
+                    byUser.remove(subscriber.userId);
+                }
+            });
+        }
+    }
+
+    private void projectChanged(ProjectChangedEvent event, ChangeFeedEvent change) {
+        Long projectId = event.projectId();
+        List<Subscriber> followers = followers(projectId);
+        send(followers, change);
+        switch (event.type()) {
+            case CREATED, MEMBERS_REPLACED -> {
+                if (followers.isEmpty() && byUser.isEmpty()) {
+                    return;
+                }
+                Set<Long> userIds = new HashSet<>(projectRepository.findUserIdsWithAccess(projectId));
+                followers.stream()
+                        .filter(subscriber -> !userIds.contains(subscriber.userId))
+                        .forEach(subscriber -> stopFollowing(subscriber, projectId));
+                for (Long userId : userIds) {
+                    joined(userId, projectId, change);
+                }
+            }
+            case MEMBER_ADDED -> joined(event.userId(), projectId, change);
+            case MEMBER_REMOVED -> followers.stream()
+                    // The owner keeps access when removed as a member
+                    .filter(subscriber -> subscriber.userId.equals(event.userId())
+                            && !projectMembershipService.hasAccess(projectId, subscriber.userId))
+                    .forEach(subscriber -> stopFollowing(subscriber, projectId));
+            case DELETED -> followers.forEach(subscriber -> stopFollowing(subscriber, projectId));
+            default -> {
+            }
+        }
+    }
+
+    // The user's streams start following a project they now have access to
+    private void joined(Long userId, Long projectId, ChangeFeedEvent change) {
+        List<Subscriber> joining = byUser.getOrDefault(userId, Set.of()).stream()
+                .filter(subscriber -> !subscriber.projectIds.contains(projectId))
+                .toList();
+        joining.forEach(subscriber -> follow(subscriber, projectId));
+        send(joining, change);
+    }
+
+    // A project stream ends with its project; a user stream just stops hearing about it
+    private void stopFollowing(Subscriber subscriber, Long projectId) {
+        unfollow(subscriber, projectId);
+        if (subscriber.projectId != null) {
+            subscriber.offer(Message.LAST);
+        }
+    }
+
+    private void follow(Subscriber subscriber, Long projectId) {
+        subscriber.projectIds.add(projectId);
+        byProject.computeIfAbsent(projectId, id -> new HashSet<>()).add(subscriber);
+    }
+
+    private void unfollow(Subscriber subscriber, Long projectId) {
+        subscriber.projectIds.remove(projectId);
+        Set<Subscriber> followers = byProject.get(projectId);
+        if (followers != null && followers.remove(subscriber) && followers.isEmpty()) {
+            byProject.remove(projectId);
+        }
+    }
+
+    private List<Subscriber> followers(Long projectId) {
+        return new ArrayList<>(byProject.getOrDefault(projectId, Set.of()));
+    }
+
+    private void send(List<Subscriber> recipients, ChangeFeedEvent change) {
+        if (recipients.isEmpty()) {
+            return;
+        }
+        try {
+            // Serialized once for every recipient
+            Message message = new Message(SseEmitter.event()
+                    .name(change.getType())
+                    .data(objectMapper.writeValueAsString(change), MediaType.APPLICATION_JSON)
+                    .build(), false);
+            recipients.forEach(subscriber -> subscriber.offer(message));
+        } catch (JsonProcessingException e) {
+            logger.error("Failed to serialize change feed event {}", change, e);
+        }
+    }
+
+    private void dispatch(Runnable action) {
+        dispatcher.execute(() -> {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                logger.error("Failed to dispatch change feed event", e);
+            }
+        });
+    }
+
+    private static String typeName(Enum<?> type) {
+        return type.name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    private record Message(Set<ResponseBodyEmitter.DataWithMediaType> data, boolean last) {
+        static final Message LAST = new Message(Set.of(), true);
+    }
+
+    private class Subscriber {
+        private final Long userId;
+        // Null for a user stream
+        private final Long projectId;
+        private final SseEmitter emitter = new SseEmitter(timeoutMs);
+        private final BlockingQueue<Message> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean sending = new AtomicBoolean();
+        // Dispatcher thread only
+        private final Set<Long> projectIds = new HashSet<>();
+        private volatile boolean closed;
+        // When the write in progress started, 0 when not writing; guarded by this
+        private long sendStartedAt;
+        private boolean stalled;
+
+        Subscriber(Long userId, Long projectId) {
+            this.userId = userId;
+            this.projectId = projectId;
+        }
+
+        void offer(Message message) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(message)) {
+                queue.clear();
+                queue.offer(RESYNC);
+                resyncs.increment();
+                if (message.last()) {
+                    queue.offer(message);
+                }
+            }
+            if (sending.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Message message;
+                while (!closed && (message = queue.poll()) != null) {
+                    if (!message.data().isEmpty()) {
+                        send(message);
+                    }
+                    if (message.last()) {
+                        closed = true;
+                        emitter.complete();
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client has gone away or the emitter has completed
+                closed = true;
+                unsubscribe(this);
+                emitter.completeWithError(e);
+            } finally {
+                sending.set(false);
+            }
+            // A message offered after the last poll but before the flag was cleared
+            if (!closed && !queue.isEmpty() && sending.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void send(Message message) throws IOException {
+            synchronized (this) {
+                sendStartedAt = System.currentTimeMillis();
+            }
+            try {
+                emitter.send(message.data());
+            } finally {
+                synchronized (this) {
+                    sendStartedAt = 0;
+                    if (stalled) {
+                        resizeSenders(-1);
+                    }
+                }
+            }
+            if (stalled) {
+                // Ends the response now that the write has returned
+                throw new IOException("Change feed write took longer than " + sendTimeoutMs + " ms");
+            }
+        }
+
+        // Marks the subscriber stalled when its write in progress started before the given time
+        synchronized boolean stallIfSendingSince(long startedBefore) {
+            if (stalled || sendStartedAt == 0 || sendStartedAt >= startedBefore) {
+                return false;
+            }
+            stalled = true;
+            closed = true;
+            return true;
+        }
+    }
+}
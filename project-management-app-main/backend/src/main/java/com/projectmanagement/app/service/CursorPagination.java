@@ -0,0 +1,120 @@
+package com.projectmanagement.app.service;
+
+import com.projectmanagement.app.dto.CursorPage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Keyset pagination helpers shared by the list endpoints.
+ *
+ * A cursor is the url-safe base64 form of "sortKey|id" taken from the last row of a page,
+ * so the next page is a range scan on (sortKey, id) no matter how deep the client is.
+ */
+@Component
+public class CursorPagination {
+    public static final String CREATED_AT = "createdAt";
+    public static final String USERNAME = "username";
+
+    private static final String ID = "id";
+    private static final String SEPARATOR = "|";
+
+    // Sorts before every stored createdAt, used as the position of the first page
+    private static final LocalDateTime BEFORE_FIRST = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Value("${app.pagination.default-size:50}")
+    private int defaultSize;
+
+    @Value("${app.pagination.max-size:200}")
+    private int maxSize;
+
+    public Limit limit(Integer requested) {
+        if (requested == null) {
+            return Limit.of(defaultSize);
+        }
+        if (requested < 1) {
+            throw new RuntimeException("Page size must be at least 1");
+        }
+        return Limit.of(Math.min(requested, maxSize));
+    }
+
+    public ScrollPosition byCreatedAt(String cursor) {
+        return toScrollPosition(decode(cursor, CREATED_AT, LocalDateTime::parse));
+    }
+
+    public ScrollPosition byUsername(String cursor) {
+        return toScrollPosition(decode(cursor, USERNAME, value -> value));
+    }
+
+    /**
+     * Position for hand-written keyset queries of the form
+     * "createdAt >= :createdAt AND (createdAt > :createdAt OR id > :id)".
+     */
+    public CreatedAtPosition afterCreatedAt(String cursor) {
+        Map<String, Object> keys = decode(cursor, CREATED_AT, LocalDateTime::parse);
+        if (keys == null) {
+            return new CreatedAtPosition(BEFORE_FIRST, 0L);
+        }
+        return new CreatedAtPosition((LocalDateTime) keys.get(CREATED_AT), (Long) keys.get(ID));
+    }
+
+    // Hand-written keyset queries fetch one extra row to find out whether there is a next page
+    public Limit lookahead(Limit limit) {
+        return Limit.of(limit.max() + 1);
+    }
+
+    public <T> CursorPage<T> page(List<T> rows, Limit limit, Function<T, Object> sortKey, Function<T, Long> id) {
+        if (rows.size() <= limit.max()) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, limit.max());
+        T last = items.get(items.size() - 1);
+        return new CursorPage<>(items, encode(sortKey.apply(last), id.apply(last)));
+    }
+
+    public <E, R> CursorPage<R> page(Window<E> window, String sortKey, Function<List<E>, List<R>> converter) {
+        String next = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            KeysetScrollPosition last = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+            next = encode(last.getKeys().get(sortKey), last.getKeys().get(ID));
+        }
+        return new CursorPage<>(converter.apply(window.getContent()), next);
+    }
+
+    private ScrollPosition toScrollPosition(Map<String, Object> keys) {
+        return keys == null ? ScrollPosition.keyset() : ScrollPosition.forward(keys);
+    }
+
+    private Map<String, Object> decode(String cursor, String sortKey, Function<String, Object> sortKeyParser) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int split = decoded.lastIndexOf(SEPARATOR);
+            Object sortValue = sortKeyParser.apply(decoded.substring(0, split));
+            Long id = Long.valueOf(decoded.substring(split + 1));
+            return Map.of(sortKey, sortValue, ID, id);
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private String encode(Object sortValue, Object id) {
+        String raw = sortValue + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public record CreatedAtPosition(LocalDateTime createdAt, Long id) {
+    }
+}
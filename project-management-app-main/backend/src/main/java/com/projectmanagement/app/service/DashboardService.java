@@ -0,0 +1,181 @@
+package com.projectmanagement.app.service;
+
+import com.projectmanagement.app.dto.DashboardProject;
+import com.projectmanagement.app.dto.DashboardResponse;
+import com.projectmanagement.app.dto.ProjectStatusCount;
+import com.projectmanagement.app.dto.TaskResponse;
+import com.projectmanagement.app.dto.TaskStatusCount;
+import com.projectmanagement.app.model.ProjectStatus;
+import com.projectmanagement.app.model.TaskStatus;
+import com.projectmanagement.app.repository.ProjectRepository;
+import com.projectmanagement.app.repository.TaskRepository;
+import com.projectmanagement.app.security.services.AuthenticatedUser;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
+
+/**
+ * Builds the dashboard in one request. Its queries do not depend on each other, so they run side by
+ * side on the dashboard executor and the response takes as long as the slowest of them. Each query
+ * only reads the rows the dashboard shows.
+ */
+@Service
+@Timed(value = "app.service", histogram = true)
+public class DashboardService {
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private AuthenticatedUser authenticatedUser;
+
+    @Value("${app.dashboard.list-size:5}")
+    private int listSize;
+
+    @Value("${app.dashboard.executor.pool-size:8}")
+    private int poolSize;
+
+    @Value("${app.dashboard.executor.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Autowired
+    private Environment environment;
+
+    private AsyncTaskExecutor dashboardExecutor;
+
+    private Semaphore queryPermits;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    public DashboardService(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * On platform threads, a full queue makes the request thread run the query itself; with virtual
+     * threads each query gets its own thread and callers wait once pool-size queries are running. Either
+     * way a query first takes one of pool-size permits, so a burst of dashboards cannot hold more
+     * database connections than the pool size, whichever thread runs the query.
+     */
+    @PostConstruct
+    public void init() {
+        queryPermits = new Semaphore(poolSize);
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("dashboard-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(poolSize);
+            dashboardExecutor = executor;
+        } else {
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(poolSize);
+            executor.setMaxPoolSize(poolSize);
+            executor.setQueueCapacity(queueCapacity);
+            executor.setThreadNamePrefix("dashboard-");
+            executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+            executor.initialize();
+            dashboardExecutor = executor;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (dashboardExecutor instanceof ThreadPoolTaskExecutor executor) {
+            executor.shutdown();
+        }
+    }
+
+    public DashboardResponse getDashboard() {
+        // Worker threads have no request scope, so the user is resolved here and passed along
+        Long userId = authenticatedUser.getId();
+        LocalDateTime now = LocalDateTime.now();
+        Limit limit = Limit.of(listSize);
+
+        CompletableFuture<List<DashboardProject>> recentProjects =
+                query(() -> projectRepository.findRecentDashboardProjects(userId, limit));
+        CompletableFuture<List<ProjectStatusCount>> projectCounts =
+                query(() -> projectRepository.countProjectsByStatus(userId));
+        CompletableFuture<List<TaskStatusCount>> taskCounts =
+                query(() -> taskRepository.countTasksByStatus(userId, now));
+        CompletableFuture<List<TaskResponse>> upcomingTasks =
+                query(() -> taskRepository.findUpcomingTaskResponses(userId, now, limit));
+        CompletableFuture<List<TaskResponse>> overdueTasks =
+                query(() -> taskRepository.findOverdueTaskResponses(userId, now, limit));
+
+        DashboardResponse response = new DashboardResponse();
+        response.setRecentProjects(join(recentProjects));
+        response.setUpcomingTasks(join(upcomingTasks));
+        response.setOverdueTaskList(join(overdueTasks));
+
+        Map<ProjectStatus, Long> projectsByStatus = new EnumMap<>(ProjectStatus.class);
+        for (ProjectStatus status : ProjectStatus.values()) {
+            projectsByStatus.put(status, 0L);
+        }
+        for (ProjectStatusCount count : join(projectCounts)) {
+            projectsByStatus.put(count.getStatus(), count.getCount());
+            response.setTotalProjects(response.getTotalProjects() + count.getCount());
+        }
+        response.setProjectsByStatus(projectsByStatus);
+
+        Map<TaskStatus, Long> tasksByStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            tasksByStatus.put(status, 0L);
+        }
+        for (TaskStatusCount count : join(taskCounts)) {
+            tasksByStatus.put(count.getStatus(), count.getCount());
+            response.setTotalTasks(response.getTotalTasks() + count.getCount());
+            if (count.getStatus() != TaskStatus.DONE) {
+                response.setOverdueTasks(response.getOverdueTasks() + count.getOverdue());
+            }
+        }
+        response.setTasksByStatus(tasksByStatus);
+        response.setCompletedTasks(tasksByStatus.get(TaskStatus.DONE));
+
+        return response;
+    }
+
+    private <T> CompletableFuture<T> query(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(() -> {
+            queryPermits.acquireUninterruptibly();
+            try {
+                return readOnlyTransaction.execute(status -> query.get());
+            } finally {
+                queryPermits.release();
+            }
+        }, dashboardExecutor);
+    }
+
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
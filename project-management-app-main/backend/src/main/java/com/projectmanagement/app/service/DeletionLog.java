@@ -0,0 +1,50 @@
+package com.projectmanagement.app.service;
+
+import com.projectmanagement.app.model.Deletion;
+import com.projectmanagement.app.model.Task;
+import com.projectmanagement.app.repository.DeletionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Tombstones of deleted tasks and projects for {@link SyncService}, written in the deleting transaction
+ * and kept for {@code app.sync.tombstone-retention-days}.
+ */
+@Service
+public class DeletionLog {
+    private static final Logger logger = LoggerFactory.getLogger(DeletionLog.class);
+
+    @Autowired
+    private DeletionRepository deletionRepository;
+
+    @Value("${app.sync.tombstone-retention-days:30}")
+    private long retentionDays;
+
+    public void recordTaskDeletions(Collection<Task> tasks) {
+        deletionRepository.saveAll(tasks.stream()
+                .map(task -> new Deletion(Deletion.Type.TASK, task.getId(), task.getProject().getId()))
+                .toList());
+    }
+
+    public void recordProjectDeletion(Long projectId) {
+        deletionRepository.save(new Deletion(Deletion.Type.PROJECT, projectId, projectId));
+    }
+
+    @Scheduled(fixedDelayString = "${app.sync.prune-interval-ms:3600000}",
+               initialDelayString = "${app.sync.prune-interval-ms:3600000}")
+    @Transactional
+    public void prune() {
+        int removed = deletionRepository.deleteOlderThan(LocalDateTime.now().minusDays(retentionDays));
+        if (removed > 0) {
+            logger.info("Removed {} tombstones older than {} days", removed, retentionDays);
+        }
+    }
+}
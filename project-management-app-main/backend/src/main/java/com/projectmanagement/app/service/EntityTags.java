@@ -0,0 +1,81 @@
+package com.projectmanagement.app.service;
+
+import com.projectmanagement.app.dto.ProjectVersion;
+import com.projectmanagement.app.dto.TaskVersion;
+import com.projectmanagement.app.model.TaskStatus;
+import org.springframework.data.domain.Limit;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * ETags built from entity versions, so that a conditional GET is answered from a version query alone.
+ *
+ * A single task or project gets a strong tag listing the versions its response is built from. A list
+ * gets a weak tag hashing the id and versions of every row on the page, because each entity counts its
+ * own versions: a row changed, added or removed changes the hash, but not necessarily the largest
+ * version on the page. Tasks also include whether they are overdue, which changes with the clock alone.
+ */
+final class EntityTags {
+    // Hex digits of the SHA-256 hash kept in a list tag
+    private static final int LIST_TAG_LENGTH = 32;
+
+    private EntityTags() {
+    }
+
+    static String task(TaskVersion task, LocalDateTime now) {
+        return "\"" + taskKey(task, now) + "\"";
+    }
+
+    static String project(ProjectVersion project) {
+        return "\"" + projectKey(project) + "\"";
+    }
+
+    // Keyset pages are passed as fetched, with the lookahead row that tells whether there is a next page
+    static String tasks(List<TaskVersion> rows, Limit limit, LocalDateTime now) {
+        StringBuilder keys = new StringBuilder();
+        page(rows, limit).forEach(task -> keys.append(task.getId()).append(':').append(taskKey(task, now)).append(';'));
+        return weak(keys.append(rows.size() > limit.max()));
+    }
+
+    static String projects(List<ProjectVersion> rows, Limit limit) {
+        return projects(page(rows, limit), rows.size() > limit.max());
+    }
+
+    static String projects(List<ProjectVersion> rows) {
+        return projects(rows, false);
+    }
+
+    private static String projects(List<ProjectVersion> rows, boolean hasNext) {
+        StringBuilder keys = new StringBuilder();
+        rows.forEach(project -> keys.append(project.getId()).append(':').append(projectKey(project)).append(';'));
+        return weak(keys.append(hasNext));
+    }
+
+    private static <T> List<T> page(List<T> rows, Limit limit) {
+        return rows.size() > limit.max() ? rows.subList(0, limit.max()) : rows;
+    }
+
+    private static String taskKey(TaskVersion task, LocalDateTime now) {
+        boolean overdue = task.getDueDate() != null && task.getDueDate().isBefore(now)
+                && task.getStatus() != TaskStatus.DONE;
+        return task.getVersion() + "." + task.getProjectVersion() + (overdue ? ".overdue" : "");
+    }
+
+    private static String projectKey(ProjectVersion project) {
+        return project.getVersion() + "." + (project.getStatsRevision() != null ? project.getStatsRevision() : "-");
+    }
+
+    private static String weak(CharSequence keys) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(keys.toString().getBytes(StandardCharsets.UTF_8));
+            return "W/\"" + HexFormat.of().formatHex(hash).substring(0, LIST_TAG_LENGTH) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 is not available", e);
+        }
+    }
+}
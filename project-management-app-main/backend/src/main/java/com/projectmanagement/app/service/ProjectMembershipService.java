@@ -0,0 +1,86 @@
+package com.projectmanagement.app.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projectmanagement.app.config.CacheRegistry;
+import com.projectmanagement.app.config.NonPinningCache;
+import com.projectmanagement.app.repository.ProjectRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Answers "is this user the owner or a member of this project" without loading the member collection.
+ *
+ * Answers are kept in an index keyed by (project, user). A miss costs one indexed existence query,
+ * whatever the size of the project. Membership changes update the index once their transaction commits.
+ */
+@Service
+public class ProjectMembershipService {
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private CacheRegistry cacheRegistry;
+
+    @Value("${app.security.membership-cache.size:100000}")
+    private long maximumSize;
+
+    @Value("${app.security.membership-cache.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    private NonPinningCache<Membership, Boolean> index;
+
+    @PostConstruct
+    public void init() {
+        index = new NonPinningCache<>(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats());
+        cacheRegistry.register("projectMembership", index.synchronous());
+    }
+
+    public boolean hasAccess(Long projectId, Long userId) {
+        return index.get(new Membership(projectId, userId),
+                key -> projectRepository.isOwnerOrMember(key.projectId(), key.userId()));
+    }
+
+    public void checkAccess(Long projectId, Long userId, String message) {
+        if (!hasAccess(projectId, userId)) {
+            throw new RuntimeException(message);
+        }
+    }
+
+    public void memberAdded(Long projectId, Long userId) {
+        afterCommit(() -> index.put(new Membership(projectId, userId), true));
+    }
+
+    public void memberRemoved(Long projectId, Long userId) {
+        // The user may still be the owner, so let the next check ask the database
+        afterCommit(() -> index.invalidate(new Membership(projectId, userId)));
+    }
+
+    public void membersReplaced(Long projectId) {
+        afterCommit(() -> index.asMap().keySet().removeIf(key -> key.projectId().equals(projectId)));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record Membership(Long projectId, Long userId) {
+    }
+}
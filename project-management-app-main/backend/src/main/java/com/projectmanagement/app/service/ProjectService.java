@@ -1,25 +1,35 @@
 package com.projectmanagement.app.service;
 
+import com.projectmanagement.app.dto.CursorPage;
+import com.projectmanagement.app.dto.ProjectMemberSummary;
 import com.projectmanagement.app.dto.ProjectRequest;
 import com.projectmanagement.app.dto.ProjectResponse;
+import com.projectmanagement.app.dto.ProjectVersion;
 import com.projectmanagement.app.dto.UserSummaryDto;
+import com.projectmanagement.app.event.ProjectChangedEvent;
 import com.projectmanagement.app.model.Project;
-import com.projectmanagement.app.model.Task;
-import com.projectmanagement.app.model.TaskStatus;
+import com.projectmanagement.app.model.ProjectStats;
 import com.projectmanagement.app.model.User;
 import com.projectmanagement.app.repository.ProjectRepository;
-import com.projectmanagement.app.repository.TaskRepository;
 import com.projectmanagement.app.repository.UserRepository;
+import com.projectmanagement.app.security.services.AuthenticatedUser;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "app.service", histogram = true)
 public class ProjectService {
     @Autowired
     private ProjectRepository projectRepository;
@@ -28,41 +38,80 @@ public class ProjectService {
     private UserRepository userRepository;
 
     @Autowired
-    private TaskRepository taskRepository;
+    private UserService userService;
 
     @Autowired
-    private UserService userService;
+    private AuthenticatedUser authenticatedUser;
 
-    public List<ProjectResponse> getAllProjects() {
-        return projectRepository.findAll().stream()
-                .map(this::convertToProjectResponse)
-                .collect(Collectors.toList());
+    @Autowired
+    private ProjectMembershipService projectMembershipService;
+
+    @Autowired
+    private CursorPagination cursorPagination;
+
+    @Autowired
+    private ResponseCache responseCache;
+
+    @Autowired
+    private ProjectStatsService projectStatsService;
+
+    @Autowired
+    private DeletionLog deletionLog;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    public CursorPage<ProjectResponse> getAllProjects(String cursor, Integer limit) {
+        Window<Project> window = projectRepository.findByOrderByCreatedAtAscIdAsc(
+                cursorPagination.byCreatedAt(cursor), cursorPagination.limit(limit));
+        return cursorPagination.page(window, CursorPagination.CREATED_AT, this::convertToProjectResponses);
+    }
+
+    public String getAllProjectsEtag(String cursor, Integer limit) {
+        CursorPagination.CreatedAtPosition position = cursorPagination.afterCreatedAt(cursor);
+        Limit pageLimit = cursorPagination.limit(limit);
+        return EntityTags.projects(projectRepository.findVersionsAfter(
+                position.createdAt(), position.id(), cursorPagination.lookahead(pageLimit)), pageLimit);
     }
 
     public List<ProjectResponse> getCurrentUserProjects() {
-        User currentUser = userService.getAuthenticatedUser();
-        return projectRepository.findAllProjectsByUserId(currentUser.getId()).stream()
-                .map(this::convertToProjectResponse)
-                .collect(Collectors.toList());
+        Long currentUserId = authenticatedUser.getId();
+        return convertToProjectResponses(projectRepository.findAllProjectsByUserId(currentUserId));
     }
 
-    public ProjectResponse getProjectById(Long id) {
-        Project project = projectRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Project not found with id: " + id));
-        return convertToProjectResponse(project);
+    public String getCurrentUserProjectsEtag() {
+        // The list is unordered, so the tag is taken over the projects sorted by id
+        List<ProjectVersion> versions = projectRepository.findAccessibleVersions(authenticatedUser.getId()).stream()
+                .sorted(Comparator.comparing(ProjectVersion::getId))
+                .toList();
+        return EntityTags.projects(versions);
+    }
+
+    public String getProjectEtag(Long id) {
+        return EntityTags.project(projectRepository.findVersionById(id)
+                .orElseThrow(() -> new RuntimeException("Project not found with id: " + id)));
+    }
+
+    /**
+     * The project as of the given ETag from {@link #getProjectEtag}, or newer.
+     */
+    public ProjectResponse getProjectById(Long id, String etag) {
+        return responseCache.getProject(id, etag, projectId -> {
+            Project project = projectRepository.findById(projectId)
+                    .orElseThrow(() -> new RuntimeException("Project not found with id: " + projectId));
+            return convertToProjectResponse(project);
+        });
     }
 
     @Transactional
     public ProjectResponse createProject(ProjectRequest projectRequest) {
-        User currentUser = userService.getAuthenticatedUser();
-        
         Project project = new Project();
         project.setName(projectRequest.getName());
         project.setDescription(projectRequest.getDescription());
         project.setStartDate(projectRequest.getStartDate());
         project.setDueDate(projectRequest.getDueDate());
         project.setStatus(projectRequest.getStatus());
-        project.setOwner(currentUser);
+        project.setOwner(authenticatedUser.getReference());
         
         // Add members if specified
         if (projectRequest.getMemberIds() != null && !projectRequest.getMemberIds().isEmpty()) {
@@ -76,7 +125,13 @@ public class ProjectService {
         }
         
         Project savedProject = projectRepository.save(project);
-        return convertToProjectResponse(savedProject);
+        projectStatsService.projectCreated(savedProject.getId());
+        eventPublisher.publishEvent(new ProjectChangedEvent(savedProject.getId(), ProjectChangedEvent.Type.CREATED));
+        // The owner is only a reference to the caller, described from the principal rather than loaded
+        List<Project> saved = List.of(savedProject);
+        return convertToProjectResponse(savedProject, authenticatedUser.toUserSummaryDto(),
+                getTaskStats(saved).get(savedProject.getId()),
+                getMembers(saved).getOrDefault(savedProject.getId(), List.of()));
     }
 
     @Transactional
@@ -85,8 +140,8 @@ public class ProjectService {
                 .orElseThrow(() -> new RuntimeException("Project not found with id: " + id));
         
         // Check if the current user is the owner
-        User currentUser = userService.getAuthenticatedUser();
-        if (!project.getOwner().getId().equals(currentUser.getId())) {
+        Long currentUserId = authenticatedUser.getId();
+        if (!project.getOwner().getId().equals(currentUserId)) {
             throw new RuntimeException("Only the project owner can update the project");
         }
         
@@ -108,9 +163,12 @@ public class ProjectService {
                 members.add(member);
             }
             project.setMembers(members);
+            projectMembershipService.membersReplaced(project.getId());
         }
         
         Project updatedProject = projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectChangedEvent(id, projectRequest.getMemberIds() != null
+                ? ProjectChangedEvent.Type.MEMBERS_REPLACED : ProjectChangedEvent.Type.UPDATED));
         return convertToProjectResponse(updatedProject);
     }
 
@@ -120,12 +178,16 @@ public class ProjectService {
                 .orElseThrow(() -> new RuntimeException("Project not found with id: " + id));
         
         // Check if the current user is the owner
-        User currentUser = userService.getAuthenticatedUser();
-        if (!project.getOwner().getId().equals(currentUser.getId())) {
+        Long currentUserId = authenticatedUser.getId();
+        if (!project.getOwner().getId().equals(currentUserId)) {
             throw new RuntimeException("Only the project owner can delete the project");
         }
         
         projectRepository.delete(project);
+        projectStatsService.projectDeleted(id);
+        deletionLog.recordProjectDeletion(id);
+        projectMembershipService.membersReplaced(id);
+        eventPublisher.publishEvent(new ProjectChangedEvent(id, ProjectChangedEvent.Type.DELETED));
     }
 
     @Transactional
@@ -134,8 +196,8 @@ public class ProjectService {
                 .orElseThrow(() -> new RuntimeException("Project not found with id: " + projectId));
         
         // Check if the current user is the owner
-        User currentUser = userService.getAuthenticatedUser();
-        if (!project.getOwner().getId().equals(currentUser.getId())) {
+        Long currentUserId = authenticatedUser.getId();
+        if (!project.getOwner().getId().equals(currentUserId)) {
             throw new RuntimeException("Only the project owner can add members to the project");
         }
         
@@ -144,6 +206,8 @@ public class ProjectService {
         
         project.getMembers().add(user);
         Project updatedProject = projectRepository.save(project);
+        projectMembershipService.memberAdded(projectId, userId);
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId, ProjectChangedEvent.Type.MEMBER_ADDED, userId));
         
         return convertToProjectResponse(updatedProject);
     }
@@ -154,8 +218,8 @@ public class ProjectService {
                 .orElseThrow(() -> new RuntimeException("Project not found with id: " + projectId));
         
         // Check if the current user is the owner
-        User currentUser = userService.getAuthenticatedUser();
-        if (!project.getOwner().getId().equals(currentUser.getId())) {
+        Long currentUserId = authenticatedUser.getId();
+        if (!project.getOwner().getId().equals(currentUserId)) {
             throw new RuntimeException("Only the project owner can remove members from the project");
         }
         
@@ -164,11 +228,58 @@ public class ProjectService {
         
         project.getMembers().remove(user);
         Project updatedProject = projectRepository.save(project);
+        projectMembershipService.memberRemoved(projectId, userId);
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId, ProjectChangedEvent.Type.MEMBER_REMOVED, userId));
         
         return convertToProjectResponse(updatedProject);
     }
 
+    public List<ProjectResponse> convertToProjectResponses(List<Project> projects) {
+        Map<Long, ProjectStats> stats = getTaskStats(projects);
+        Map<Long, List<UserSummaryDto>> members = getMembers(projects);
+        return projects.stream()
+                .map(project -> convertToProjectResponse(project, stats.get(project.getId()),
+                        members.getOrDefault(project.getId(), List.of())))
+                .collect(Collectors.toList());
+    }
+
     private ProjectResponse convertToProjectResponse(Project project) {
+        return convertToProjectResponses(List.of(project)).get(0);
+    }
+
+    // Task figures for a whole list of projects, one project_stats row each
+    private Map<Long, ProjectStats> getTaskStats(List<Project> projects) {
+        if (projects.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> projectIds = projects.stream()
+                .map(Project::getId)
+                .collect(Collectors.toList());
+        return projectStatsService.getStats(projectIds);
+    }
+
+    // Members of a whole list of projects in one query, grouped by project
+    private Map<Long, List<UserSummaryDto>> getMembers(List<Project> projects) {
+        if (projects.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> projectIds = projects.stream()
+                .map(Project::getId)
+                .collect(Collectors.toList());
+        return projectRepository.findMemberSummariesByProjectIds(projectIds).stream()
+                .collect(Collectors.groupingBy(ProjectMemberSummary::getProjectId,
+                        Collectors.mapping(member -> new UserSummaryDto(member.getId(), member.getUsername(),
+                                member.getFullName(), member.getEmail()), Collectors.toList())));
+    }
+
+    private ProjectResponse convertToProjectResponse(Project project, ProjectStats stats,
+                                                     List<UserSummaryDto> members) {
+        return convertToProjectResponse(project, userService.convertToUserSummaryDto(project.getOwner()), stats,
+                members);
+    }
+
+    private ProjectResponse convertToProjectResponse(Project project, UserSummaryDto owner, ProjectStats stats,
+                                                     List<UserSummaryDto> members) {
         ProjectResponse response = new ProjectResponse();
         response.setId(project.getId());
         response.setName(project.getName());
@@ -180,22 +291,21 @@ public class ProjectService {
         response.setUpdatedAt(project.getUpdatedAt());
         
         // Set owner
-        response.setOwner(userService.convertToUserSummaryDto(project.getOwner()));
+        response.setOwner(owner);
         
         // Set members
-        List<UserSummaryDto> memberDtos = project.getMembers().stream()
-                .map(userService::convertToUserSummaryDto)
-                .collect(Collectors.toList());
-        response.setMembers(memberDtos);
+        response.setMembers(members);
         
         // Set task statistics
-        List<Task> tasks = taskRepository.findTasksByProjectId(project.getId());
-        response.setTotalTasks(tasks.size());
-        
-        long completedTasks = tasks.stream()
-                .filter(task -> task.getStatus() == TaskStatus.DONE)
-                .count();
-        response.setCompletedTasks((int) completedTasks);
+        if (stats != null) {
+            response.setTotalTasks((int) stats.getTotalTasks());
+            response.setCompletedTasks((int) stats.getDoneTasks());
+            response.setTasksByStatus(stats.getTasksByStatus());
+            // Tasks that fell due while the application was down, or while being edited, can push the count
+            // below zero until the project is rebuilt
+            response.setOverdueTasks((int) Math.max(0, stats.getOverdueTasks()));
+            response.setAverageProgress(stats.getAverageProgress());
+        }
         
         return response;
     }
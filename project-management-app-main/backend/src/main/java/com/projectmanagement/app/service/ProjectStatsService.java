@@ -0,0 +1,252 @@
+package com.projectmanagement.app.service;
+
+import com.projectmanagement.app.event.ProjectChangedEvent;
+import com.projectmanagement.app.event.TaskOverdueEvent;
+import com.projectmanagement.app.model.ProjectStats;
+import com.projectmanagement.app.model.Task;
+import com.projectmanagement.app.model.TaskStatus;
+import com.projectmanagement.app.repository.ProjectRepository;
+import com.projectmanagement.app.repository.ProjectStatsRepository;
+import com.projectmanagement.app.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Maintains the project_stats table.
+ *
+ * Task mutations report each task's state before and after the change. The differences are summed per
+ * project for the whole transaction and written just before it commits, one in-place increment per
+ * project. Projects with tasks that have just passed their due date are recomputed as the
+ * {@link TaskOverdueEvent}s arrive, and a scheduled job recomputes every project from its tasks to
+ * correct any other drift.
+ */
+@Service
+public class ProjectStatsService {
+    private static final Logger logger = LoggerFactory.getLogger(ProjectStatsService.class);
+
+    private static final Object REBUILT_PROJECTS = new Object();
+
+    @Autowired
+    private ProjectStatsRepository projectStatsRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public ProjectStatsService(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public Map<Long, ProjectStats> getStats(Collection<Long> projectIds) {
+        Map<Long, ProjectStats> stats = new HashMap<>();
+        projectStatsRepository.findAllById(projectIds).forEach(row -> stats.put(row.getProjectId(), row));
+        return stats;
+    }
+
+    public void projectCreated(Long projectId) {
+        projectStatsRepository.save(new ProjectStats(projectId));
+    }
+
+    public void projectDeleted(Long projectId) {
+        projectStatsRepository.deleteById(projectId);
+    }
+
+    /**
+     * Records a task change; {@code before} is null for a new task and {@code after} for a deleted one.
+     */
+    public void taskChanged(TaskSnapshot before, TaskSnapshot after) {
+        Map<Long, StatsDelta> deltas = pendingDeltas();
+        if (before != null) {
+            deltas.computeIfAbsent(before.projectId(), id -> new StatsDelta()).add(before, -1);
+        }
+        if (after != null) {
+            deltas.computeIfAbsent(after.projectId(), id -> new StatsDelta()).add(after, 1);
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(deltas);
+        }
+    }
+
+    /**
+     * Recomputes the figures of every project. Each project is locked and rebuilt in its own short
+     * transaction, so concurrent increments are applied either before or on top of the rebuild.
+     */
+    @Scheduled(fixedDelayString = "${app.stats.reconcile-interval-ms:300000}",
+               initialDelayString = "${app.stats.reconcile-interval-ms:300000}")
+    public void reconcileAll() {
+        int drifted = 0;
+        List<Long> projectIds = projectRepository.findAllIds();
+        for (Long projectId : projectIds) {
+            if (Boolean.TRUE.equals(transactionTemplate.execute(status -> rebuild(projectId)))) {
+                drifted++;
+                eventPublisher.publishEvent(new ProjectChangedEvent(projectId, ProjectChangedEvent.Type.STATS_CHANGED));
+            }
+        }
+        int orphans = transactionTemplate.execute(status -> projectStatsRepository.deleteOrphans());
+        logger.info("Reconciled task statistics of {} projects: {} had drifted, {} orphaned rows removed",
+                projectIds.size(), drifted, orphans);
+    }
+
+    /**
+     * Recomputes the project of a task that has become overdue. An edit just before the due date may or
+     * may not have counted the task as overdue already, so the project is rebuilt rather than incremented.
+     */
+    @EventListener
+    public void onTaskOverdue(TaskOverdueEvent event) {
+        if (rebuiltProjects().add(event.projectId())) {
+            transactionTemplate.execute(status -> rebuild(event.projectId()));
+        }
+    }
+
+    /**
+     * Creates the rows of projects that have none yet, e.g. projects created before the table existed.
+     */
+    public void createMissing() {
+        List<Long> projectIds = projectStatsRepository.findProjectIdsWithoutStats();
+        for (Long projectId : projectIds) {
+            transactionTemplate.execute(status -> rebuild(projectId));
+        }
+        if (!projectIds.isEmpty()) {
+            logger.info("Built task statistics for {} projects", projectIds.size());
+        }
+    }
+
+    private boolean rebuild(Long projectId) {
+        ProjectStats stats = projectStatsRepository.findForUpdate(projectId)
+                .orElseGet(() -> new ProjectStats(projectId));
+        LocalDateTime now = LocalDateTime.now();
+        boolean drifted = stats.reconcile(taskRepository.findTaskStatsByProjectIds(List.of(projectId), now).stream()
+                .findFirst()
+                .orElse(null), now);
+        projectStatsRepository.save(stats);
+        return drifted;
+    }
+
+    // Deltas of the current transaction, written once just before it commits
+    @SuppressWarnings("unchecked")
+    private Map<Long, StatsDelta> pendingDeltas() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new HashMap<>();
+        }
+        Map<Long, StatsDelta> deltas = (Map<Long, StatsDelta>) TransactionSynchronizationManager.getResource(this);
+        if (deltas == null) {
+            Map<Long, StatsDelta> newDeltas = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, newDeltas);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    apply(newDeltas);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResource(ProjectStatsService.this);
+                }
+            });
+            deltas = newDeltas;
+        }
+        return deltas;
+    }
+
+    // Projects rebuilt in the current transaction, which a batch of overdue tasks needs only once
+    @SuppressWarnings("unchecked")
+    private Set<Long> rebuiltProjects() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new HashSet<>();
+        }
+        Set<Long> projectIds = (Set<Long>) TransactionSynchronizationManager.getResource(REBUILT_PROJECTS);
+        if (projectIds == null) {
+            projectIds = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(REBUILT_PROJECTS, projectIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResource(REBUILT_PROJECTS);
+                }
+            });
+        }
+        return projectIds;
+    }
+
+    private void apply(Map<Long, StatsDelta> deltas) {
+        deltas.forEach((projectId, delta) -> {
+            if (delta.isEmpty()) {
+                return;
+            }
+            int updated = projectStatsRepository.increment(projectId, delta.total, delta.todo, delta.inProgress,
+                    delta.review, delta.done, delta.blocked, delta.overdue, delta.progress);
+            // A project without a row yet gets one computed from its tasks, which already include this change
+            if (updated == 0 && projectRepository.existsById(projectId)) {
+                rebuild(projectId);
+            }
+        });
+        deltas.clear();
+    }
+
+    /**
+     * The parts of a task that the project figures depend on, taken at one point in time.
+     */
+    public record TaskSnapshot(Long projectId, TaskStatus status, boolean overdue, int progress) {
+        public static TaskSnapshot of(Task task) {
+            boolean overdue = task.getDueDate() != null && task.getDueDate().isBefore(LocalDateTime.now())
+                    && task.getStatus() != TaskStatus.DONE;
+            int progress = task.getProgressPercentage() != null ? task.getProgressPercentage() : 0;
+            return new TaskSnapshot(task.getProject().getId(), task.getStatus(), overdue, progress);
+        }
+    }
+
+    private static class StatsDelta {
+        private long total;
+        private long todo;
+        private long inProgress;
+        private long review;
+        private long done;
+        private long blocked;
+        private long overdue;
+        private long progress;
+
+        void add(TaskSnapshot task, int sign) {
+            total += sign;
+            switch (task.status()) {
+                case TODO -> todo += sign;
+                case IN_PROGRESS -> inProgress += sign;
+                case REVIEW -> review += sign;
+                case DONE -> done += sign;
+                case BLOCKED -> blocked += sign;
+            }
+            if (task.overdue()) {
+                overdue += sign;
+            }
+            progress += (long) sign * task.progress();
+        }
+
+        boolean isEmpty() {
+            return total == 0 && todo == 0 && inProgress == 0 && review == 0 && done == 0 && blocked == 0
+                    && overdue == 0 && progress == 0;
+        }
+    }
+}
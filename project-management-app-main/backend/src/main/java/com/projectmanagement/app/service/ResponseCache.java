@@ -0,0 +1,138 @@
+package com.projectmanagement.app.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projectmanagement.app.config.CacheRegistry;
+import com.projectmanagement.app.config.NonPinningCache;
+import com.projectmanagement.app.dto.ProjectResponse;
+import com.projectmanagement.app.dto.TaskResponse;
+import com.projectmanagement.app.event.ProjectChangedEvent;
+import com.projectmanagement.app.event.TaskChangedEvent;
+import com.projectmanagement.app.event.TaskOverdueEvent;
+import com.projectmanagement.app.event.UserChangedEvent;
+import com.projectmanagement.app.model.TaskStatus;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of the responses served by GET /api/projects/{id} and GET /api/tasks/{id}.
+ *
+ * Entries are evicted by the change events the services publish, once the publishing transaction
+ * has committed, so a reader never caches a value that is about to be rolled back. Each entry also
+ * keeps the ETag it was loaded under, and a read with a different tag loads it again, so a response
+ * is never served under a tag newer than itself while its eviction is still on the way.
+ */
+@Service
+public class ResponseCache {
+    private static final Set<ProjectChangedEvent.Type> TASK_AFFECTING_CHANGES = EnumSet.of(
+            ProjectChangedEvent.Type.UPDATED, ProjectChangedEvent.Type.MEMBERS_REPLACED, ProjectChangedEvent.Type.DELETED);
+
+    @Autowired
+    private CacheRegistry cacheRegistry;
+
+    @Value("${app.cache.responses.size:10000}")
+    private long maximumSize;
+
+    @Value("${app.cache.responses.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    private NonPinningCache<Long, Tagged<ProjectResponse>> projects;
+
+    private NonPinningCache<Long, Tagged<TaskResponse>> tasks;
+
+    @PostConstruct
+    public void init() {
+        projects = new NonPinningCache<>(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats());
+        tasks = new NonPinningCache<>(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats());
+        cacheRegistry.register("projectResponses", projects.synchronous());
+        cacheRegistry.register("taskResponses", tasks.synchronous());
+    }
+
+    public ProjectResponse getProject(Long id, String etag, Function<Long, ProjectResponse> loader) {
+        return get(projects, id, etag, loader);
+    }
+
+    public TaskResponse getTask(Long id, String etag, Function<Long, TaskResponse> loader) {
+        TaskResponse cached = get(tasks, id, etag, loader);
+        // Overdue depends on the clock, not only on the task, so it is worked out on every read, on a copy
+        // since the cached response is shared between readers
+        TaskResponse response = copyOf(cached);
+        response.setOverdue(cached.getDueDate() != null && cached.getDueDate().isBefore(LocalDateTime.now())
+                && cached.getStatus() != TaskStatus.DONE);
+        return response;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        tasks.invalidate(event.taskId());
+        // Task counts are part of the project response
+        projects.invalidate(event.projectId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskOverdue(TaskOverdueEvent event) {
+        // The project response counts overdue tasks
+        projects.invalidate(event.projectId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        projects.invalidate(event.projectId());
+        // Task responses carry the project name, and deleting a project deletes its tasks. Only updates,
+        // which may rename the project (with or without a new member list), and deletes touch them, so
+        // the other changes do not scan the task cache.
+        if (TASK_AFFECTING_CHANGES.contains(event.type())) {
+            tasks.asMap().values().removeIf(task -> event.projectId().equals(task.response().getProjectId()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        // Users appear as owners, members and assignees, so there is no narrower set to evict
+        projects.invalidateAll();
+        tasks.invalidateAll();
+    }
+
+    private static <T> T get(NonPinningCache<Long, Tagged<T>> cache, Long id, String etag, Function<Long, T> loader) {
+        Tagged<T> entry = cache.get(id, key -> new Tagged<>(etag, loader.apply(key)));
+        if (!entry.etag().equals(etag)) {
+            entry = new Tagged<>(etag, loader.apply(id));
+            cache.put(id, entry);
+        }
+        return entry.response();
+    }
+
+    private static TaskResponse copyOf(TaskResponse task) {
+        TaskResponse copy = new TaskResponse();
+        copy.setId(task.getId());
+        copy.setTitle(task.getTitle());
+        copy.setDescription(task.getDescription());
+        copy.setStatus(task.getStatus());
+        copy.setPriority(task.getPriority());
+        copy.setDueDate(task.getDueDate());
+        copy.setProjectId(task.getProjectId());
+        copy.setProjectName(task.getProjectName());
+        copy.setAssignee(task.getAssignee());
+        copy.setCreatedAt(task.getCreatedAt());
+        copy.setUpdatedAt(task.getUpdatedAt());
+        copy.setProgressPercentage(task.getProgressPercentage());
+        return copy;
+    }
+
+    private record Tagged<T>(String etag, T response) {
+    }
+}
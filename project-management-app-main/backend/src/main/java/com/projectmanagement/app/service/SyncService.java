@@ -0,0 +1,200 @@
+package com.projectmanagement.app.service;
+
+import com.projectmanagement.app.dto.ProjectResponse;
+import com.projectmanagement.app.dto.SyncDeletion;
+import com.projectmanagement.app.dto.SyncResponse;
+import com.projectmanagement.app.dto.TaskResponse;
+import com.projectmanagement.app.model.Project;
+import com.projectmanagement.app.repository.DeletionRepository;
+import com.projectmanagement.app.repository.ProjectRepository;
+import com.projectmanagement.app.repository.TaskRepository;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Changes since a watermark, for clients that keep a local copy of the tasks and projects: the ones
+ * created or updated after it, and tombstones of the ones deleted.
+ *
+ * Projects, tasks and tombstones are each read as a keyset range of their (updatedAt, id) or
+ * (deletedAt, id) index and merged in time order, so a page costs the same few queries however large
+ * the data is. A watermark is the position of the last change handed out, and the time the client's copy
+ * was last known to be complete, which decides whether the tombstones it still needs are kept. Reads stop
+ * {@code app.sync.settle-ms} short of the current time: a row is stamped when it is flushed but only
+ * visible once its transaction commits, so a change stamped just before a watermark could otherwise
+ * become visible after it and be skipped.
+ */
+@Service
+@Timed(value = "app.service", histogram = true)
+public class SyncService {
+    private static final Logger logger = LoggerFactory.getLogger(SyncService.class);
+
+    private static final String SEPARATOR = "|";
+
+    // Sorts before every stored timestamp, the position of a first sync
+    private static final LocalDateTime BEFORE_FIRST = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final Comparator<Change> IN_ORDER = Comparator.comparing(Change::changedAt)
+            .thenComparing(Change::kind)
+            .thenComparingLong(Change::id);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private DeletionRepository deletionRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private CursorPagination cursorPagination;
+
+    @Value("${app.sync.settle-ms:5000}")
+    private long settleMs;
+
+    // Tombstones older than this have been pruned by DeletionLog
+    @Value("${app.sync.tombstone-retention-days:30}")
+    private long retentionDays;
+
+    /**
+     * The changes after the given watermark, oldest first, or everything when there is none. Projects
+     * whose tasks changed on the page are included too, since their task figures changed with them.
+     */
+    @Transactional(readOnly = true)
+    public SyncResponse getChanges(String since, Integer limit) {
+        Limit pageLimit = cursorPagination.limit(limit);
+        Limit lookahead = cursorPagination.lookahead(pageLimit);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.minus(settleMs, ChronoUnit.MILLIS).truncatedTo(ChronoUnit.MILLIS);
+        Position from = decode(since);
+        // Tombstones are only kept for the retention period, so a copy last complete before it starts over.
+        // The position alone is not enough: paging through a full download hands out old positions
+        boolean reset = from == null || from.issuedAt().isBefore(now.minusDays(retentionDays));
+        if (reset) {
+            from = new Position(BEFORE_FIRST, null, 0L, now);
+        }
+
+        List<Change> changes = new ArrayList<>();
+        projectRepository.findUpdatedAfter(from.changedAt(), from.idAfter(Kind.PROJECT), until, lookahead)
+                .forEach(project -> changes.add(new Change(project.getUpdatedAt(), Kind.PROJECT, project.getId(), project)));
+        taskRepository.findTaskResponsesUpdatedAfter(from.changedAt(), from.idAfter(Kind.TASK), until, lookahead)
+                .forEach(task -> changes.add(new Change(task.getUpdatedAt(), Kind.TASK, task.getId(), task)));
+        deletionRepository.findAfter(from.changedAt(), from.idAfter(Kind.DELETION), until, lookahead)
+                .forEach(deletion -> changes.add(new Change(deletion.getDeletedAt(), Kind.DELETION,
+                        deletion.getLogId(), deletion)));
+        changes.sort(IN_ORDER);
+
+        boolean hasMore = changes.size() > pageLimit.max();
+        List<Change> page = hasMore ? changes.subList(0, pageLimit.max()) : changes;
+        List<Project> projects = new ArrayList<>();
+        List<TaskResponse> tasks = new ArrayList<>();
+        List<SyncDeletion> deletions = new ArrayList<>();
+        Set<Long> touchedProjectIds = new LinkedHashSet<>();
+        for (Change change : page) {
+            switch (change.kind()) {
+                case PROJECT -> projects.add((Project) change.value());
+                case TASK -> {
+                    TaskResponse task = (TaskResponse) change.value();
+                    tasks.add(task);
+                    touchedProjectIds.add(task.getProjectId());
+                }
+                case DELETION -> {
+                    SyncDeletion deletion = (SyncDeletion) change.value();
+                    deletions.add(deletion);
+                    touchedProjectIds.add(deletion.getProjectId());
+                }
+            }
+        }
+        projects.forEach(project -> touchedProjectIds.remove(project.getId()));
+        if (!touchedProjectIds.isEmpty()) {
+            // Deleted projects are simply not found
+            projects.addAll(projectRepository.findWithOwnerByIdIn(touchedProjectIds));
+        }
+        List<ProjectResponse> projectResponses = projectService.convertToProjectResponses(projects);
+
+        Position watermark;
+        if (hasMore) {
+            Change last = page.get(page.size() - 1);
+            // The copy is only complete again once the last page is handed out
+            watermark = new Position(last.changedAt(), last.kind(), last.id(), from.issuedAt());
+        } else {
+            // Everything before until has been handed out, and nothing stamped at until yet
+            watermark = from.changedAt().isBefore(until) ? new Position(until, null, 0L, until) : from;
+        }
+        return new SyncResponse(reset, projectResponses, tasks, deletions, encode(watermark), hasMore);
+    }
+
+    /**
+     * Stamps rows written before creation set updatedAt, so that sync finds them.
+     */
+    @Transactional
+    public void fillMissingUpdatedAt() {
+        int projects = projectRepository.fillMissingUpdatedAt();
+        int tasks = taskRepository.fillMissingUpdatedAt();
+        if (projects + tasks > 0) {
+            logger.info("Set updatedAt of {} projects and {} tasks from createdAt", projects, tasks);
+        }
+    }
+
+    private Position decode(String watermark) {
+        if (watermark == null || watermark.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(watermark), StandardCharsets.UTF_8)
+                    .split("\\" + SEPARATOR);
+            Kind kind = parts[1].isEmpty() ? null : Kind.valueOf(parts[1]);
+            LocalDateTime changedAt = LocalDateTime.parse(parts[0]);
+            // Watermarks handed out before the issue time was added only had the position
+            LocalDateTime issuedAt = parts.length > 3 ? LocalDateTime.parse(parts[3]) : changedAt;
+            return new Position(changedAt, kind, Long.parseLong(parts[2]), issuedAt);
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Invalid watermark: " + watermark);
+        }
+    }
+
+    private String encode(Position position) {
+        String raw = position.changedAt() + SEPARATOR + (position.kind() != null ? position.kind().name() : "")
+                + SEPARATOR + position.id() + SEPARATOR + position.issuedAt();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Changes at the same time are ordered by kind, then id
+    private enum Kind {
+        PROJECT, TASK, DELETION
+    }
+
+    private record Change(LocalDateTime changedAt, Kind kind, long id, Object value) {
+    }
+
+    // The last change handed out; a null kind means none at changedAt yet. issuedAt is when the pages
+    // leading up to it started, the last time the client's copy was complete
+    private record Position(LocalDateTime changedAt, Kind kind, Long id, LocalDateTime issuedAt) {
+        // Keyset id bound for one kind's query at changedAt
+        Long idAfter(Kind other) {
+            if (kind == null || other.compareTo(kind) > 0) {
+                return 0L;
+            }
+            return other == kind ? id : Long.MAX_VALUE;
+        }
+    }
+}
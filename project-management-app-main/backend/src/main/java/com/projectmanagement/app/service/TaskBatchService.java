@@ -0,0 +1,340 @@
+package com.projectmanagement.app.service;
+
+import com.projectmanagement.app.dto.TaskBatchDeleteRequest;
+import com.projectmanagement.app.dto.TaskBatchItemResult;
+import com.projectmanagement.app.dto.TaskBatchResponse;
+import com.projectmanagement.app.dto.TaskBatchStatusRequest;
+import com.projectmanagement.app.dto.TaskBatchUpdate;
+import com.projectmanagement.app.dto.TaskRequest;
+import com.projectmanagement.app.event.TaskChangedEvent;
+import com.projectmanagement.app.model.Project;
+import com.projectmanagement.app.model.Task;
+import com.projectmanagement.app.model.TaskStatus;
+import com.projectmanagement.app.model.User;
+import com.projectmanagement.app.repository.ProjectRepository;
+import com.projectmanagement.app.repository.TaskRepository;
+import com.projectmanagement.app.repository.UserRepository;
+import com.projectmanagement.app.security.services.AuthenticatedUser;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk task operations. Each call runs in one transaction: every item is checked up front and
+ * reported individually, and the accepted items are written with JDBC batching.
+ */
+@Service
+@Timed(value = "app.service", histogram = true)
+public class TaskBatchService {
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthenticatedUser authenticatedUser;
+
+    @Autowired
+    private ProjectMembershipService projectMembershipService;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ProjectStatsService projectStatsService;
+
+    @Autowired
+    private DeletionLog deletionLog;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.tasks.batch.max-size:5000}")
+    private int maxBatchSize;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int jdbcBatchSize;
+
+    @Transactional
+    public TaskBatchResponse createTasks(List<TaskRequest> requests) {
+        checkBatchSize(requests.size());
+        Long currentUserId = authenticatedUser.getId();
+        Map<Long, Project> projects = loadProjects(requests.stream()
+                .filter(Objects::nonNull)
+                .map(TaskRequest::getProjectId)
+                .collect(Collectors.toSet()));
+        Map<Long, User> users = loadUsers(requests.stream()
+                .filter(Objects::nonNull)
+                .map(TaskRequest::getAssigneeId)
+                .collect(Collectors.toSet()));
+
+        List<TaskBatchItemResult> results = new ArrayList<>();
+        List<Task> tasks = new ArrayList<>();
+        List<TaskBatchItemResult> taskResults = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            TaskRequest request = requests.get(i);
+            String error = validate(request);
+            if (error == null) {
+                Project project = projects.get(request.getProjectId());
+                if (project == null) {
+                    error = "Project not found with id: " + request.getProjectId();
+                } else if (!projectMembershipService.hasAccess(project.getId(), currentUserId)) {
+                    error = "You don't have access to this project";
+                } else {
+                    error = checkAssignee(request, users);
+                }
+            }
+            if (error != null) {
+                results.add(new TaskBatchItemResult(i, null, false, error));
+                continue;
+            }
+
+            Task task = new Task();
+            task.setProject(projects.get(request.getProjectId()));
+            applyRequest(task, request, users);
+            tasks.add(task);
+
+            TaskBatchItemResult result = new TaskBatchItemResult(i, null, true, null);
+            taskResults.add(result);
+            results.add(result);
+        }
+
+        // Ids come from the pooled sequence at persist time, so inserts go out as JDBC batches
+        for (int start = 0; start < tasks.size(); start += jdbcBatchSize) {
+            taskRepository.saveAll(tasks.subList(start, Math.min(start + jdbcBatchSize, tasks.size())));
+            entityManager.flush();
+        }
+        for (int i = 0; i < tasks.size(); i++) {
+            taskResults.get(i).setTaskId(tasks.get(i).getId());
+            projectStatsService.taskChanged(null, ProjectStatsService.TaskSnapshot.of(tasks.get(i)));
+            publishTaskChanged(tasks.get(i), TaskChangedEvent.Type.CREATED);
+        }
+        return new TaskBatchResponse(results);
+    }
+
+    @Transactional
+    public TaskBatchResponse updateTasks(List<TaskBatchUpdate> updates) {
+        checkBatchSize(updates.size());
+        Long currentUserId = authenticatedUser.getId();
+        Map<Long, Task> tasks = loadTasks(updates.stream()
+                .filter(Objects::nonNull)
+                .map(TaskBatchUpdate::getId)
+                .collect(Collectors.toSet()));
+        List<TaskRequest> requests = updates.stream()
+                .filter(update -> update != null && update.getTask() != null)
+                .map(TaskBatchUpdate::getTask)
+                .collect(Collectors.toList());
+        Map<Long, Project> projects = loadProjects(requests.stream()
+                .map(TaskRequest::getProjectId)
+                .collect(Collectors.toSet()));
+        Map<Long, User> users = loadUsers(requests.stream()
+                .map(TaskRequest::getAssigneeId)
+                .collect(Collectors.toSet()));
+
+        List<TaskBatchItemResult> results = new ArrayList<>();
+        for (int i = 0; i < updates.size(); i++) {
+            TaskBatchUpdate update = updates.get(i);
+            Long taskId = update != null ? update.getId() : null;
+            String error = null;
+            if (taskId == null || update.getTask() == null) {
+                error = "Both id and task are required";
+            } else {
+                error = validate(update.getTask());
+            }
+
+            Task task = taskId != null ? tasks.get(taskId) : null;
+            if (error == null) {
+                if (task == null) {
+                    error = "Task not found with id: " + taskId;
+                } else if (!projectMembershipService.hasAccess(task.getProject().getId(), currentUserId)) {
+                    error = "You don't have access to this task";
+                } else if (!projects.containsKey(update.getTask().getProjectId())) {
+                    error = "Project not found with id: " + update.getTask().getProjectId();
+                } else {
+                    error = checkAssignee(update.getTask(), users);
+                }
+            }
+            if (error != null) {
+                results.add(new TaskBatchItemResult(i, taskId, false, error));
+                continue;
+            }
+
+            TaskRequest request = update.getTask();
+            ProjectStatsService.TaskSnapshot before = ProjectStatsService.TaskSnapshot.of(task);
+            if (!task.getProject().getId().equals(request.getProjectId())) {
+                publishTaskChanged(task, TaskChangedEvent.Type.MOVED);
+                task.setProject(projects.get(request.getProjectId()));
+            }
+            applyRequest(task, request, users);
+            projectStatsService.taskChanged(before, ProjectStatsService.TaskSnapshot.of(task));
+            publishTaskChanged(task, TaskChangedEvent.Type.UPDATED);
+            results.add(new TaskBatchItemResult(i, taskId, true, null));
+        }
+        return new TaskBatchResponse(results);
+    }
+
+    @Transactional
+    public TaskBatchResponse updateTaskStatus(TaskBatchStatusRequest request) {
+        checkBatchSize(request.getTaskIds().size());
+        TaskStatus taskStatus;
+        try {
+            taskStatus = TaskStatus.valueOf(request.getStatus().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid task status: " + request.getStatus());
+        }
+
+        Long currentUserId = authenticatedUser.getId();
+        Map<Long, Task> tasks = loadTasks(request.getTaskIds());
+        List<TaskBatchItemResult> results = new ArrayList<>();
+        for (int i = 0; i < request.getTaskIds().size(); i++) {
+            Long taskId = request.getTaskIds().get(i);
+            Task task = tasks.get(taskId);
+            String error = checkTask(taskId, task, currentUserId);
+            if (error != null) {
+                results.add(new TaskBatchItemResult(i, taskId, false, error));
+                continue;
+            }
+
+            ProjectStatsService.TaskSnapshot before = ProjectStatsService.TaskSnapshot.of(task);
+            task.setStatus(taskStatus);
+            // If task is marked as DONE, set progress to 100%
+            if (taskStatus == TaskStatus.DONE) {
+                task.setProgressPercentage(100);
+            }
+            projectStatsService.taskChanged(before, ProjectStatsService.TaskSnapshot.of(task));
+            publishTaskChanged(task, TaskChangedEvent.Type.STATUS_CHANGED);
+            results.add(new TaskBatchItemResult(i, taskId, true, null));
+        }
+        return new TaskBatchResponse(results);
+    }
+
+    @Transactional
+    public TaskBatchResponse deleteTasks(TaskBatchDeleteRequest request) {
+        checkBatchSize(request.getTaskIds().size());
+        Long currentUserId = authenticatedUser.getId();
+        Map<Long, Task> tasks = loadTasks(request.getTaskIds());
+        List<TaskBatchItemResult> results = new ArrayList<>();
+        Set<Long> deletable = new LinkedHashSet<>();
+        for (int i = 0; i < request.getTaskIds().size(); i++) {
+            Long taskId = request.getTaskIds().get(i);
+            String error = checkTask(taskId, tasks.get(taskId), currentUserId);
+            if (error != null) {
+                results.add(new TaskBatchItemResult(i, taskId, false, error));
+                continue;
+            }
+            deletable.add(taskId);
+            projectStatsService.taskChanged(ProjectStatsService.TaskSnapshot.of(tasks.get(taskId)), null);
+            publishTaskChanged(tasks.get(taskId), TaskChangedEvent.Type.DELETED);
+            results.add(new TaskBatchItemResult(i, taskId, true, null));
+        }
+
+        if (!deletable.isEmpty()) {
+            taskRepository.deleteAllByIdInBatch(deletable);
+            deletionLog.recordTaskDeletions(deletable.stream().map(tasks::get).toList());
+        }
+        return new TaskBatchResponse(results);
+    }
+
+    private void publishTaskChanged(Task task, TaskChangedEvent.Type type) {
+        eventPublisher.publishEvent(TaskChangedEvent.of(task, type));
+    }
+
+    private void checkBatchSize(int size) {
+        if (size > maxBatchSize) {
+            throw new RuntimeException("Batch size must not exceed " + maxBatchSize + " items");
+        }
+    }
+
+    private String validate(TaskRequest request) {
+        if (request == null) {
+            return "Task is required";
+        }
+        Set<ConstraintViolation<TaskRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private String checkTask(Long taskId, Task task, Long currentUserId) {
+        if (task == null) {
+            return "Task not found with id: " + taskId;
+        }
+        if (!projectMembershipService.hasAccess(task.getProject().getId(), currentUserId)) {
+            return "You don't have access to this task";
+        }
+        return null;
+    }
+
+    private String checkAssignee(TaskRequest request, Map<Long, User> users) {
+        if (request.getAssigneeId() != null && !users.containsKey(request.getAssigneeId())) {
+            return "User not found with id: " + request.getAssigneeId();
+        }
+        return null;
+    }
+
+    private void applyRequest(Task task, TaskRequest request, Map<Long, User> users) {
+        task.setTitle(request.getTitle());
+        task.setDescription(request.getDescription());
+        task.setPriority(request.getPriority());
+        task.setDueDate(request.getDueDate());
+
+        if (request.getStatus() != null) {
+            task.setStatus(request.getStatus());
+        }
+
+        if (request.getProgressPercentage() != null) {
+            task.setProgressPercentage(request.getProgressPercentage());
+        }
+
+        task.setAssignee(request.getAssigneeId() != null ? users.get(request.getAssigneeId()) : null);
+    }
+
+    private Map<Long, Task> loadTasks(Collection<Long> ids) {
+        return taskRepository.findAllById(withoutNulls(ids)).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    private Map<Long, Project> loadProjects(Collection<Long> ids) {
+        return projectRepository.findAllById(withoutNulls(ids)).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+    }
+
+    private Map<Long, User> loadUsers(Collection<Long> ids) {
+        return userRepository.findAllById(withoutNulls(ids)).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+
+    private Set<Long> withoutNulls(Collection<Long> ids) {
+        return ids.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,110 @@
+package com.projectmanagement.app.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Feeds committed task and project changes to an in-memory index that is kept on a single thread.
+ *
+ * Changed ids are queued and the index's thread reloads them in batches, so writes do not wait for the
+ * index. The bulk load runs on the same thread, so changes committed while it runs are applied after it
+ * and never overwritten by the older rows it read. A failed load is retried after a delay, and so is a
+ * failed reload, whose ids are queued again, so the index catches up even if nothing else changes.
+ */
+class TaskChangeQueue {
+    private static final Logger logger = LoggerFactory.getLogger(TaskChangeQueue.class);
+
+    private static final int RELOAD_BATCH_SIZE = 500;
+
+    private static final long RETRY_DELAY_MS = 10_000;
+
+    interface Reloader {
+        // Called on the index's thread with at most one batch of each; deleted projects take their tasks along
+        void reload(List<Long> projectIds, List<Long> taskIds);
+    }
+
+    private final String description;
+
+    private final ScheduledExecutorService executor;
+
+    private final Reloader reloader;
+
+    private final Set<Long> pendingTasks = ConcurrentHashMap.newKeySet();
+
+    private final Set<Long> pendingProjects = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    TaskChangeQueue(String description, ScheduledExecutorService executor, Reloader reloader) {
+        this.description = description;
+        this.executor = executor;
+        this.reloader = reloader;
+    }
+
+    void load(Runnable loader) {
+        executor.execute(() -> {
+            try {
+                loader.run();
+            } catch (RuntimeException e) {
+                logger.error("Failed to load {}, retrying in {} ms", description, RETRY_DELAY_MS, e);
+                executor.schedule(() -> load(loader), RETRY_DELAY_MS, TimeUnit.MILLISECONDS);
+            }
+        });
+    }
+
+    void taskChanged(Long taskId) {
+        pendingTasks.add(taskId);
+        scheduleDrain();
+    }
+
+    void projectChanged(Long projectId) {
+        pendingProjects.add(projectId);
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        drainScheduled.set(false);
+        try {
+            while (!pendingTasks.isEmpty() || !pendingProjects.isEmpty()) {
+                List<Long> projectIds = take(pendingProjects);
+                List<Long> taskIds = take(pendingTasks);
+                try {
+                    reloader.reload(projectIds, taskIds);
+                } catch (RuntimeException e) {
+                    // Queued again for the retry, or for an earlier drain if another change comes first
+                    pendingProjects.addAll(projectIds);
+                    pendingTasks.addAll(taskIds);
+                    throw e;
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.error("Failed to update {}, retrying in {} ms", description, RETRY_DELAY_MS, e);
+            executor.schedule(this::scheduleDrain, RETRY_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static List<Long> take(Set<Long> pending) {
+        List<Long> taken = new ArrayList<>();
+        Iterator<Long> iterator = pending.iterator();
+        while (iterator.hasNext() && taken.size() < RELOAD_BATCH_SIZE) {
+            taken.add(iterator.next());
+            iterator.remove();
+        }
+        return taken;
+    }
+}
@@ -0,0 +1,165 @@
+package com.projectmanagement.app.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Open tasks with a due date, ordered by due date.
+ *
+ * The whole set is ordered so the next task to fall due is always the first one after a given time, and
+ * each project's tasks are also ordered on their own so that a caller's overdue tasks are a merge of the
+ * heads of their projects rather than a walk over everyone's. Reads share a lock; updates take it
+ * exclusively.
+ */
+public class TaskDueDateIndex {
+    private static final Comparator<Due> BY_DUE_DATE = Comparator.comparing(Due::dueDate).thenComparingLong(Due::taskId);
+
+    private final NavigableSet<Due> byDueDate = new TreeSet<>(BY_DUE_DATE);
+
+    private final Map<Long, NavigableSet<Due>> byProject = new HashMap<>();
+
+    private final Map<Long, Due> byTask = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public record Due(LocalDateTime dueDate, long taskId, long projectId) {
+    }
+
+    /**
+     * Adds the task or replaces what was indexed for it, returning the replaced entry.
+     */
+    public Due put(long taskId, long projectId, LocalDateTime dueDate) {
+        Due due = new Due(dueDate, taskId, projectId);
+        lock.writeLock().lock();
+        try {
+            Due previous = removeLocked(taskId);
+            byDueDate.add(due);
+            byProject.computeIfAbsent(projectId, id -> new TreeSet<>(BY_DUE_DATE)).add(due);
+            byTask.put(taskId, due);
+            return previous;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Due remove(long taskId) {
+        lock.writeLock().lock();
+        try {
+            return removeLocked(taskId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeProject(long projectId) {
+        lock.writeLock().lock();
+        try {
+            NavigableSet<Due> tasks = byProject.remove(projectId);
+            if (tasks != null) {
+                for (Due due : tasks) {
+                    byDueDate.remove(due);
+                    byTask.remove(due.taskId());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return byTask.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Tasks due at or after {@code from} and before {@code to}, earliest first.
+     */
+    public List<Due> dueBetween(LocalDateTime from, LocalDateTime to) {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(byDueDate.subSet(first(from), true, first(to), false));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The earliest due date at or after {@code from}, or null if there is none.
+     */
+    public LocalDateTime nextDueDate(LocalDateTime from) {
+        lock.readLock().lock();
+        try {
+            Due next = byDueDate.ceiling(first(from));
+            return next != null ? next.dueDate() : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The tasks of the given projects due before {@code before}, earliest first.
+     */
+    public List<Due> dueBefore(Set<Long> projectIds, LocalDateTime before, int limit) {
+        Due bound = first(before);
+        lock.readLock().lock();
+        try {
+            PriorityQueue<Head> heads = new PriorityQueue<>(Comparator.comparing(Head::due, BY_DUE_DATE));
+            for (Long projectId : projectIds) {
+                NavigableSet<Due> tasks = byProject.get(projectId);
+                if (tasks != null) {
+                    Iterator<Due> iterator = tasks.headSet(bound, false).iterator();
+                    if (iterator.hasNext()) {
+                        heads.add(new Head(iterator.next(), iterator));
+                    }
+                }
+            }
+            List<Due> result = new ArrayList<>();
+            while (result.size() < limit && !heads.isEmpty()) {
+                Head head = heads.poll();
+                result.add(head.due());
+                if (head.rest().hasNext()) {
+                    heads.add(new Head(head.rest().next(), head.rest()));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Due removeLocked(long taskId) {
+        Due previous = byTask.remove(taskId);
+        if (previous != null) {
+            byDueDate.remove(previous);
+            NavigableSet<Due> tasks = byProject.get(previous.projectId());
+            tasks.remove(previous);
+            if (tasks.isEmpty()) {
+                byProject.remove(previous.projectId());
+            }
+        }
+        return previous;
+    }
+
+    // Sorts before every task due at the given time
+    private static Due first(LocalDateTime dueDate) {
+        return new Due(dueDate, Long.MIN_VALUE, 0);
+    }
+
+    private record Head(Due due, Iterator<Due> rest) {
+    }
+}
@@ -0,0 +1,251 @@
+package com.projectmanagement.app.service;
+
+import com.projectmanagement.app.dto.TaskDueDocument;
+import com.projectmanagement.app.dto.TaskResponse;
+import com.projectmanagement.app.event.ProjectChangedEvent;
+import com.projectmanagement.app.event.TaskChangedEvent;
+import com.projectmanagement.app.event.TaskOverdueEvent;
+import com.projectmanagement.app.model.TaskStatus;
+import com.projectmanagement.app.repository.ProjectRepository;
+import com.projectmanagement.app.repository.TaskRepository;
+import com.projectmanagement.app.security.services.AuthenticatedUser;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Keeps open tasks in a {@link TaskDueDateIndex} and publishes a {@link TaskOverdueEvent} when one passes its
+ * due date.
+ *
+ * Everything that changes the index runs on one scheduler thread: the bulk load once the application is
+ * ready, reloads of tasks queued by committed changes through a {@link TaskChangeQueue}, and a timer that
+ * sleeps until the next due date.
+ * Tasks due before {@code overdueBefore} are overdue; the timer moves it forward to the current time and
+ * publishes the tasks it passes, all in one transaction.
+ */
+@Service
+@Timed(value = "app.service", histogram = true)
+public class TaskDueDateScheduler {
+    private static final Logger logger = LoggerFactory.getLogger(TaskDueDateScheduler.class);
+
+    // Longest single sleep, so a change to the system clock is noticed within a minute
+    private static final long MAX_WAIT_MS = Duration.ofMinutes(1).toMillis();
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private AuthenticatedUser authenticatedUser;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.pagination.default-size:50}")
+    private int defaultSize;
+
+    @Value("${app.pagination.max-size:200}")
+    private int maxSize;
+
+    private final TaskDueDateIndex index = new TaskDueDateIndex();
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    // Null until the index is loaded
+    private volatile LocalDateTime overdueBefore;
+
+    private ScheduledExecutorService scheduler;
+
+    private ScheduledFuture<?> nextCheck;
+
+    private TaskChangeQueue changes;
+
+    public TaskDueDateScheduler(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @PostConstruct
+    public void init() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-due-date-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        changes = new TaskChangeQueue("task due dates", scheduler, (projectIds, taskIds) -> {
+            try {
+                reloadProjects(projectIds);
+                reloadTasks(taskIds);
+            } finally {
+                scheduleNextCheck();
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Overdue tasks of the projects the current user owns or is a member of, longest overdue first.
+     */
+    @Transactional(readOnly = true)
+    public List<TaskResponse> getOverdueTasks(Integer limit) {
+        int size = limit == null || limit <= 0 ? defaultSize : Math.min(limit, maxSize);
+        LocalDateTime before = overdueBefore;
+        if (before == null) {
+            return List.of();
+        }
+        Set<Long> projectIds = new HashSet<>(projectRepository.findAccessibleProjectIds(authenticatedUser.getId()));
+        List<TaskDueDateIndex.Due> due = index.dueBefore(projectIds, before, size);
+        if (due.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, TaskResponse> responses = taskRepository.findTaskResponsesByIds(
+                        due.stream().map(TaskDueDateIndex.Due::taskId).toList()).stream()
+                .collect(Collectors.toMap(TaskResponse::getId, Function.identity()));
+        // Tasks deleted or completed since the index was last updated are left out
+        return due.stream()
+                .map(entry -> responses.get(entry.taskId()))
+                .filter(response -> response != null && response.isOverdue())
+                .toList();
+    }
+
+    // Whether the bulk load has finished; until then there are no overdue tasks to list
+    public boolean isLoaded() {
+        return overdueBefore != null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        changes.load(this::loadIndex);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        changes.taskChanged(event.taskId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        // Deleting a project deletes its tasks without an event per task
+        changes.projectChanged(event.projectId());
+    }
+
+    private void loadIndex() {
+        long start = System.currentTimeMillis();
+        // Tasks already overdue at startup are not published
+        LocalDateTime now = LocalDateTime.now();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<TaskDueDocument> documents = taskRepository.streamOpenDueDocuments()) {
+                documents.forEach(document -> index.put(document.getId(), document.getProjectId(), document.getDueDate()));
+            }
+        });
+        overdueBefore = now;
+        logger.info("Scheduled {} open tasks by due date in {} ms", index.size(), System.currentTimeMillis() - start);
+        scheduleNextCheck();
+    }
+
+    private void check() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<TaskDueDateIndex.Due> due = index.dueBetween(overdueBefore, now);
+            overdueBefore = now;
+            publish(due);
+        } catch (RuntimeException e) {
+            logger.error("Failed to publish overdue tasks", e);
+        } finally {
+            scheduleNextCheck();
+        }
+    }
+
+    private void scheduleNextCheck() {
+        if (nextCheck != null) {
+            nextCheck.cancel(false);
+            nextCheck = null;
+        }
+        LocalDateTime next = overdueBefore != null ? index.nextDueDate(overdueBefore) : null;
+        if (next != null) {
+            // Just past the due date, so that the task is due before the time the check reads
+            long delay = Math.min(Duration.between(LocalDateTime.now(), next).toMillis() + 1, MAX_WAIT_MS);
+            nextCheck = scheduler.schedule(this::check, Math.max(delay, 0), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void publish(List<TaskDueDateIndex.Due> due) {
+        if (due.isEmpty()) {
+            return;
+        }
+        // One transaction, so listeners that write can do so once per batch
+        transactionTemplate.executeWithoutResult(status -> due.forEach(entry -> eventPublisher.publishEvent(
+                new TaskOverdueEvent(entry.taskId(), entry.projectId(), entry.dueDate()))));
+    }
+
+    private void reloadTasks(List<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        Map<Long, TaskDueDocument> documents = readOnlyTransaction.execute(
+                        status -> taskRepository.findDueDocumentsByIds(taskIds)).stream()
+                .collect(Collectors.toMap(TaskDueDocument::getId, Function.identity()));
+        LocalDateTime before = overdueBefore;
+        List<TaskDueDateIndex.Due> overdue = new ArrayList<>();
+        for (Long taskId : taskIds) {
+            TaskDueDocument document = documents.get(taskId);
+            if (document == null || document.getDueDate() == null || document.getStatus() == TaskStatus.DONE) {
+                index.remove(taskId);
+                continue;
+            }
+            TaskDueDateIndex.Due previous = index.put(taskId, document.getProjectId(), document.getDueDate());
+            // Fell due between the write and this reload, unless the timer already passed it with this due date
+            if (before != null && document.getDueDate().isBefore(before)
+                    && document.getDueDate().isAfter(document.getChangedAt())
+                    && (previous == null || !previous.dueDate().equals(document.getDueDate()))) {
+                overdue.add(new TaskDueDateIndex.Due(document.getDueDate(), taskId, document.getProjectId()));
+            }
+        }
+        publish(overdue);
+    }
+
+    private void reloadProjects(List<Long> projectIds) {
+        for (Long projectId : projectIds) {
+            if (!projectRepository.existsById(projectId)) {
+                index.removeProject(projectId);
+            }
+        }
+    }
+}
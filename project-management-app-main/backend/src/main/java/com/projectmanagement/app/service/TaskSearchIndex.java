@@ -0,0 +1,358 @@
+package com.projectmanagement.app.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over task titles and descriptions.
+ *
+ * Each term maps to a postings list of (task id, project id, weight) held in primitive arrays, so an
+ * indexed occurrence costs 20 bytes rather than a handful of boxed objects. Each task also records its
+ * slot in every postings list it is in, 4 more bytes, so removing it does not search the lists. The weight counts title
+ * occurrences three times. Terms are kept sorted, which makes a prefix query a range scan of the
+ * dictionary. Queries match tasks containing every term and rank them by a saturated, idf-weighted
+ * sum of the term weights. Reads share a lock; updates take it exclusively and only touch the terms
+ * whose weight changed.
+ */
+public class TaskSearchIndex {
+    private static final int TITLE_WEIGHT = 3;
+
+    private static final int MIN_TERM_LENGTH = 2;
+
+    private static final int MAX_TERM_LENGTH = 40;
+
+    // Dictionary terms a single prefix expands to at most
+    private static final int MAX_PREFIX_EXPANSION = 200;
+
+    // Term frequency saturation, as in BM25
+    private static final double SATURATION = 1.2;
+
+    private static final long NO_TASK = -1;
+
+    private final NavigableMap<String, Postings> terms = new TreeMap<>();
+
+    private final Map<Long, Document> documents = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public record Hit(long taskId, double score) {
+    }
+
+    /**
+     * Adds the task or replaces what was indexed for it.
+     */
+    public void put(long taskId, long projectId, String title, String description) {
+        TreeMap<String, Integer> weights = weigh(title, description);
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.get(taskId);
+            // A moved task has a new project id in every postings list, so all of them are rewritten
+            Document unchanged = previous != null && previous.projectId() == projectId ? previous : null;
+            if (unchanged != null && unchanged.hasWeights(weights)) {
+                return;
+            }
+            if (previous != null) {
+                for (int i = 0; i < previous.terms().length; i++) {
+                    Integer weight = weights.get(previous.terms()[i]);
+                    if (unchanged == null || weight == null || weight != previous.weights()[i]) {
+                        removePosting(previous.terms()[i], previous.slots()[i]);
+                    }
+                }
+            }
+
+            String[] documentTerms = new String[weights.size()];
+            int[] documentWeights = new int[weights.size()];
+            int[] documentSlots = new int[weights.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+                int weight = entry.getValue();
+                Postings postings = terms.computeIfAbsent(entry.getKey(), Postings::new);
+                int kept = unchanged != null ? unchanged.indexOf(entry.getKey()) : -1;
+                if (kept >= 0 && unchanged.weights()[kept] == weight) {
+                    documentSlots[i] = unchanged.slots()[kept];
+                } else {
+                    documentSlots[i] = postings.add(taskId, projectId, weight);
+                }
+                // The dictionary's copy of the term, so each term string is held once
+                documentTerms[i] = postings.term;
+                documentWeights[i++] = weight;
+            }
+            documents.put(taskId, new Document(projectId, documentTerms, documentWeights, documentSlots));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long taskId) {
+        lock.writeLock().lock();
+        try {
+            Document previous = documents.remove(taskId);
+            if (previous != null) {
+                for (int i = 0; i < previous.terms().length; i++) {
+                    removePosting(previous.terms()[i], previous.slots()[i]);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeProject(long projectId) {
+        List<Long> taskIds = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            documents.forEach((taskId, document) -> {
+                if (document.projectId() == projectId) {
+                    taskIds.add(taskId);
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        taskIds.forEach(this::remove);
+    }
+
+    public boolean contains(long taskId) {
+        lock.readLock().lock();
+        try {
+            return documents.containsKey(taskId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The best matches among tasks of the given projects, best first. A query term ending in {@code *}
+     * matches every term starting with it.
+     */
+    public List<Hit> search(String query, Set<Long> projectIds, int limit) {
+        List<QueryTerm> queryTerms = parse(query);
+        if (queryTerms.isEmpty() || projectIds.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<List<Map.Entry<String, Postings>>> expansions = new ArrayList<>();
+            for (QueryTerm queryTerm : queryTerms) {
+                List<Map.Entry<String, Postings>> matches = expand(queryTerm);
+                if (matches.isEmpty()) {
+                    return List.of();
+                }
+                expansions.add(matches);
+            }
+            // The rarest term first keeps the candidate set small from the start
+            expansions.sort(Comparator.comparingLong(TaskSearchIndex::postingCount));
+
+            double documentCount = Math.max(documents.size(), 1);
+            Map<Long, Double> scores = null;
+            for (List<Map.Entry<String, Postings>> matches : expansions) {
+                Map<Long, Double> termScores = new HashMap<>();
+                for (Map.Entry<String, Postings> match : matches) {
+                    Postings postings = match.getValue();
+                    double idf = Math.log(1 + documentCount / postings.size);
+                    for (int i = 0; i < postings.size; i++) {
+                        long taskId = postings.taskIds[i];
+                        if (!projectIds.contains(postings.projectIds[i])
+                                || (scores != null && !scores.containsKey(taskId))) {
+                            continue;
+                        }
+                        double weight = postings.weights[i];
+                        // A task matching several expansions of one prefix counts its best one
+                        termScores.merge(taskId, idf * weight / (weight + SATURATION), Math::max);
+                    }
+                }
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    Map<Long, Double> previous = scores;
+                    termScores.replaceAll((taskId, score) -> score + previous.get(taskId));
+                    scores = termScores;
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+            return top(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Map.Entry<String, Postings>> expand(QueryTerm queryTerm) {
+        if (!queryTerm.prefix()) {
+            Postings postings = terms.get(queryTerm.text());
+            return postings != null ? List.of(Map.entry(queryTerm.text(), postings)) : List.of();
+        }
+        List<Map.Entry<String, Postings>> matches = new ArrayList<>();
+        for (Map.Entry<String, Postings> entry : terms.tailMap(queryTerm.text(), true).entrySet()) {
+            if (!entry.getKey().startsWith(queryTerm.text()) || matches.size() == MAX_PREFIX_EXPANSION) {
+                break;
+            }
+            matches.add(entry);
+        }
+        return matches;
+    }
+
+    private static long postingCount(List<Map.Entry<String, Postings>> matches) {
+        long count = 0;
+        for (Map.Entry<String, Postings> match : matches) {
+            count += match.getValue().size;
+        }
+        return count;
+    }
+
+    private static List<Hit> top(Map<Long, Double> scores, int limit) {
+        Comparator<Hit> byRank = Comparator.comparingDouble(Hit::score).thenComparing(Hit::taskId, Comparator.reverseOrder());
+        PriorityQueue<Hit> best = new PriorityQueue<>(limit + 1, byRank);
+        scores.forEach((taskId, score) -> {
+            best.add(new Hit(taskId, score));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        });
+        List<Hit> hits = new ArrayList<>(best);
+        hits.sort(byRank.reversed());
+        return hits;
+    }
+
+    private void removePosting(String term, int slot) {
+        Postings postings = terms.get(term);
+        long moved = postings.removeAt(slot);
+        if (postings.size == 0) {
+            terms.remove(term);
+        } else if (moved != NO_TASK) {
+            // The last posting was moved into the freed slot; its task has to know
+            Document document = documents.get(moved);
+            document.slots()[document.indexOf(term)] = slot;
+        }
+    }
+
+    private static TreeMap<String, Integer> weigh(String title, String description) {
+        TreeMap<String, Integer> weights = new TreeMap<>();
+        tokenize(title).forEach(term -> weights.merge(term, TITLE_WEIGHT, Integer::sum));
+        tokenize(description).forEach(term -> weights.merge(term, 1, Integer::sum));
+        return weights;
+    }
+
+    private static List<QueryTerm> parse(String query) {
+        Map<String, QueryTerm> queryTerms = new LinkedHashMap<>();
+        if (query == null) {
+            return List.of();
+        }
+        for (String word : query.trim().split("\\s+")) {
+            boolean prefix = word.endsWith("*");
+            List<String> tokens = tokenize(prefix ? word.substring(0, word.length() - 1) : word);
+            for (int i = 0; i < tokens.size(); i++) {
+                // Only the last token of a word like "re-dep*" is a prefix
+                QueryTerm queryTerm = new QueryTerm(tokens.get(i), prefix && i == tokens.size() - 1);
+                queryTerms.putIfAbsent(queryTerm.text() + queryTerm.prefix(), queryTerm);
+            }
+        }
+        return new ArrayList<>(queryTerms.values());
+    }
+
+    // Lower-cased runs of letters and digits
+    static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                if (i - start >= MIN_TERM_LENGTH) {
+                    tokens.add(lower.substring(start, Math.min(i, start + MAX_TERM_LENGTH)));
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private record QueryTerm(String text, boolean prefix) {
+    }
+
+    // Terms sorted, with their weights and postings slots at the same positions
+    private record Document(long projectId, String[] terms, int[] weights, int[] slots) {
+        int indexOf(String term) {
+            return Arrays.binarySearch(terms, term);
+        }
+
+        boolean hasWeights(Map<String, Integer> other) {
+            if (other.size() != terms.length) {
+                return false;
+            }
+            for (int i = 0; i < terms.length; i++) {
+                if (!Integer.valueOf(weights[i]).equals(other.get(terms[i]))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    // Unordered; removal moves the last posting into the freed slot
+    private static class Postings {
+        private final String term;
+        private long[] taskIds = new long[4];
+        private long[] projectIds = new long[4];
+        private int[] weights = new int[4];
+        private int size;
+
+        Postings(String term) {
+            this.term = term;
+        }
+
+        // The slot the posting was added at
+        int add(long taskId, long projectId, int weight) {
+            if (size == taskIds.length) {
+                int capacity = size + (size >> 1);
+                taskIds = Arrays.copyOf(taskIds, capacity);
+                projectIds = Arrays.copyOf(projectIds, capacity);
+                weights = Arrays.copyOf(weights, capacity);
+            }
+            taskIds[size] = taskId;
+            projectIds[size] = projectId;
+            weights[size] = weight;
+            return size++;
+        }
+
+        // The task whose posting was moved into the slot, or NO_TASK when the slot was the last one
+        long removeAt(int slot) {
+            size--;
+            if (slot == size) {
+                return NO_TASK;
+            }
+            taskIds[slot] = taskIds[size];
+            projectIds[slot] = projectIds[size];
+            weights[slot] = weights[size];
+            return taskIds[slot];
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.projectmanagement.app.service;
+
+import com.projectmanagement.app.dto.TaskResponse;
+import com.projectmanagement.app.dto.TaskSearchDocument;
+import com.projectmanagement.app.event.ProjectChangedEvent;
+import com.projectmanagement.app.event.TaskChangedEvent;
+import com.projectmanagement.app.repository.ProjectRepository;
+import com.projectmanagement.app.repository.TaskRepository;
+import com.projectmanagement.app.security.services.AuthenticatedUser;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Full-text task search over a {@link TaskSearchIndex}.
+ *
+ * The index is bulk loaded once the application is ready and then follows committed task changes through
+ * a {@link TaskChangeQueue}, so writes do not wait for the index and search trails them by milliseconds.
+ */
+@Service
+@Timed(value = "app.service", histogram = true)
+public class TaskSearchService {
+    private static final Logger logger = LoggerFactory.getLogger(TaskSearchService.class);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private AuthenticatedUser authenticatedUser;
+
+    @Value("${app.search.default-size:20}")
+    private int defaultSize;
+
+    @Value("${app.search.max-size:100}")
+    private int maxSize;
+
+    private final TaskSearchIndex index = new TaskSearchIndex();
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile boolean loaded;
+
+    private ScheduledExecutorService indexer;
+
+    private TaskChangeQueue changes;
+
+    public TaskSearchService(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @PostConstruct
+    public void init() {
+        indexer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-search-indexer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        changes = new TaskChangeQueue("the task search index", indexer, (projectIds, taskIds) -> {
+            reloadProjects(projectIds);
+            reloadTasks(taskIds);
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        indexer.shutdownNow();
+    }
+
+    /**
+     * Tasks matching every term of the query in projects the current user owns or is a member of, best
+     * match first. A term ending in {@code *} is a prefix.
+     */
+    @Transactional(readOnly = true)
+    public List<TaskResponse> search(String query, Integer limit) {
+        int size = limit == null || limit <= 0 ? defaultSize : Math.min(limit, maxSize);
+        Set<Long> projectIds = new HashSet<>(projectRepository.findAccessibleProjectIds(authenticatedUser.getId()));
+        List<TaskSearchIndex.Hit> hits = index.search(query, projectIds, size);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, TaskResponse> responses = taskRepository.findTaskResponsesByIds(
+                        hits.stream().map(TaskSearchIndex.Hit::taskId).toList()).stream()
+                .collect(Collectors.toMap(TaskResponse::getId, Function.identity()));
+        // Tasks deleted since the index was last updated are left out
+        return hits.stream()
+                .map(hit -> responses.get(hit.taskId()))
+                .filter(response -> response != null)
+                .toList();
+    }
+
+    // Whether the bulk load has finished; until then search only finds the tasks indexed so far
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        changes.load(this::loadIndex);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        changes.taskChanged(event.taskId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        // Deleting a project deletes its tasks without an event per task
+        changes.projectChanged(event.projectId());
+    }
+
+    private void loadIndex() {
+        long start = System.currentTimeMillis();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<TaskSearchDocument> documents = taskRepository.streamSearchDocuments()) {
+                documents.forEach(document -> index.put(document.getId(), document.getProjectId(),
+                        document.getTitle(), document.getDescription()));
+            }
+        });
+        loaded = true;
+        logger.info("Indexed {} tasks for search in {} ms", index.size(), System.currentTimeMillis() - start);
+    }
+
+    private void reloadTasks(List<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        List<TaskSearchDocument> documents = readOnlyTransaction.execute(
+                status -> taskRepository.findSearchDocumentsByIds(taskIds));
+        Set<Long> found = new HashSet<>();
+        for (TaskSearchDocument document : documents) {
+            index.put(document.getId(), document.getProjectId(), document.getTitle(), document.getDescription());
+            found.add(document.getId());
+        }
+        taskIds.stream().filter(taskId -> !found.contains(taskId)).forEach(index::remove);
+    }
+
+    private void reloadProjects(List<Long> projectIds) {
+        for (Long projectId : projectIds) {
+            if (!projectRepository.existsById(projectId)) {
+                index.removeProject(projectId);
+            }
+        }
+    }
+}
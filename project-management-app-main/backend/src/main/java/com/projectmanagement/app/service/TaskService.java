@@ -1,7 +1,13 @@
 package com.projectmanagement.app.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.projectmanagement.app.dto.CursorPage;
+import com.projectmanagement.app.dto.TaskExportFormat;
 import com.projectmanagement.app.dto.TaskRequest;
 import com.projectmanagement.app.dto.TaskResponse;
+import com.projectmanagement.app.dto.UserSummaryDto;
+import com.projectmanagement.app.event.TaskChangedEvent;
 import com.projectmanagement.app.model.Project;
 import com.projectmanagement.app.model.Task;
 import com.projectmanagement.app.model.TaskStatus;
@@ -9,16 +15,36 @@ import com.projectmanagement.app.model.User;
 import com.projectmanagement.app.repository.ProjectRepository;
 import com.projectmanagement.app.repository.TaskRepository;
 import com.projectmanagement.app.repository.UserRepository;
+import com.projectmanagement.app.security.services.AuthenticatedUser;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Timed(value = "app.service", histogram = true)
 public class TaskService {
+    // Rows written between persistence context clears during exports
+    private static final int EXPORT_BATCH_SIZE = 1000;
+
+    private static final String CSV_HEADER = "id,title,description,status,priority,dueDate,projectId,projectName," +
+            "assigneeId,assigneeUsername,progressPercentage,overdue,createdAt,updatedAt";
+
     @Autowired
     private TaskRepository taskRepository;
 
@@ -31,31 +57,132 @@ public class TaskService {
     @Autowired
     private UserService userService;
 
-    public List<TaskResponse> getAllTasks() {
-        return taskRepository.findAll().stream()
-                .map(this::convertToTaskResponse)
-                .collect(Collectors.toList());
+    @Autowired
+    private AuthenticatedUser authenticatedUser;
+
+    @Autowired
+    private ProjectMembershipService projectMembershipService;
+
+    @Autowired
+    private CursorPagination cursorPagination;
+
+    @Autowired
+    private ResponseCache responseCache;
+
+    @Autowired
+    private ProjectStatsService projectStatsService;
+
+    @Autowired
+    private DeletionLog deletionLog;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public CursorPage<TaskResponse> getAllTasks(String cursor, Integer limit) {
+        CursorPagination.CreatedAtPosition position = cursorPagination.afterCreatedAt(cursor);
+        Limit pageLimit = cursorPagination.limit(limit);
+        List<TaskResponse> rows = taskRepository.findTaskResponsesAfter(
+                position.createdAt(), position.id(), cursorPagination.lookahead(pageLimit));
+        return toTaskPage(rows, pageLimit);
     }
 
-    public List<TaskResponse> getTasksByProject(Long projectId) {
-        List<Task> tasks = taskRepository.findTasksByProjectId(projectId);
-        return tasks.stream()
-                .map(this::convertToTaskResponse)
-                .collect(Collectors.toList());
+    public String getAllTasksEtag(String cursor, Integer limit) {
+        CursorPagination.CreatedAtPosition position = cursorPagination.afterCreatedAt(cursor);
+        Limit pageLimit = cursorPagination.limit(limit);
+        return EntityTags.tasks(taskRepository.findVersionsAfter(
+                position.createdAt(), position.id(), cursorPagination.lookahead(pageLimit)), pageLimit, LocalDateTime.now());
     }
 
-    public List<TaskResponse> getTasksAssignedToCurrentUser() {
-        User currentUser = userService.getAuthenticatedUser();
-        List<Task> tasks = taskRepository.findTasksByAssigneeId(currentUser.getId());
-        return tasks.stream()
-                .map(this::convertToTaskResponse)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public CursorPage<TaskResponse> getTasksByProject(Long projectId, String cursor, Integer limit) {
+        CursorPagination.CreatedAtPosition position = cursorPagination.afterCreatedAt(cursor);
+        Limit pageLimit = cursorPagination.limit(limit);
+        List<TaskResponse> rows = taskRepository.findTaskResponsesByProjectIdAfter(
+                projectId, position.createdAt(), position.id(), cursorPagination.lookahead(pageLimit));
+        return toTaskPage(rows, pageLimit);
     }
 
-    public TaskResponse getTaskById(Long id) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
-        return convertToTaskResponse(task);
+    public String getTasksByProjectEtag(Long projectId, String cursor, Integer limit) {
+        CursorPagination.CreatedAtPosition position = cursorPagination.afterCreatedAt(cursor);
+        Limit pageLimit = cursorPagination.limit(limit);
+        return EntityTags.tasks(taskRepository.findVersionsByProjectIdAfter(projectId,
+                position.createdAt(), position.id(), cursorPagination.lookahead(pageLimit)), pageLimit, LocalDateTime.now());
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<TaskResponse> getTasksAssignedToCurrentUser(String cursor, Integer limit) {
+        Long currentUserId = authenticatedUser.getId();
+        CursorPagination.CreatedAtPosition position = cursorPagination.afterCreatedAt(cursor);
+        Limit pageLimit = cursorPagination.limit(limit);
+        List<TaskResponse> rows = taskRepository.findTaskResponsesByAssigneeIdAfter(
+                currentUserId, position.createdAt(), position.id(), cursorPagination.lookahead(pageLimit));
+        return toTaskPage(rows, pageLimit);
+    }
+
+    public String getTasksAssignedToCurrentUserEtag(String cursor, Integer limit) {
+        Long currentUserId = authenticatedUser.getId();
+        CursorPagination.CreatedAtPosition position = cursorPagination.afterCreatedAt(cursor);
+        Limit pageLimit = cursorPagination.limit(limit);
+        return EntityTags.tasks(taskRepository.findVersionsByAssigneeIdAfter(currentUserId,
+                position.createdAt(), position.id(), cursorPagination.lookahead(pageLimit)), pageLimit, LocalDateTime.now());
+    }
+
+    /**
+     * Writes every matching task to the stream one row at a time. Tasks are read from a server-side
+     * cursor and detached in batches, so memory use does not grow with the size of the export.
+     */
+    @Transactional(readOnly = true)
+    public void exportTasks(Long projectId, Long assigneeId, TaskStatus status, TaskExportFormat format,
+                            OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        ObjectWriter jsonWriter = objectMapper.writerFor(TaskResponse.class);
+        if (format == TaskExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try (Stream<Task> tasks = taskRepository.streamForExport(projectId, assigneeId, status)) {
+            Iterator<Task> iterator = tasks.iterator();
+            int written = 0;
+            while (iterator.hasNext()) {
+                TaskResponse response = convertToTaskResponse(iterator.next());
+                if (format == TaskExportFormat.CSV) {
+                    writeCsvRow(writer, response);
+                } else {
+                    writer.write(jsonWriter.writeValueAsString(response));
+                    writer.write('\n');
+                }
+
+                if (++written % EXPORT_BATCH_SIZE == 0) {
+                    entityManager.clear();
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    public String getTaskEtag(Long id) {
+        return EntityTags.task(taskRepository.findVersionById(id)
+                .orElseThrow(() -> new RuntimeException("Task not found with id: " + id)), LocalDateTime.now());
+    }
+
+    /**
+     * The task as of the given ETag from {@link #getTaskEtag}, or newer.
+     */
+    public TaskResponse getTaskById(Long id, String etag) {
+        return responseCache.getTask(id, etag, taskId -> {
+            Task task = taskRepository.findById(taskId)
+                    .orElseThrow(() -> new RuntimeException("Task not found with id: " + taskId));
+            return convertToTaskResponse(task);
+        });
     }
 
     @Transactional
@@ -64,13 +191,8 @@ public class TaskService {
                 .orElseThrow(() -> new RuntimeException("Project not found with id: " + taskRequest.getProjectId()));
 
         // Check if user has access to the project
-        User currentUser = userService.getAuthenticatedUser();
-        boolean hasAccess = project.getOwner().getId().equals(currentUser.getId()) || 
-                           project.getMembers().stream().anyMatch(member -> member.getId().equals(currentUser.getId()));
-        
-        if (!hasAccess) {
-            throw new RuntimeException("You don't have access to this project");
-        }
+        projectMembershipService.checkAccess(project.getId(), authenticatedUser.getId(),
+                "You don't have access to this project");
 
         Task task = new Task();
         task.setTitle(taskRequest.getTitle());
@@ -94,6 +216,8 @@ public class TaskService {
         }
 
         Task savedTask = taskRepository.save(task);
+        projectStatsService.taskChanged(null, ProjectStatsService.TaskSnapshot.of(savedTask));
+        publishTaskChanged(savedTask, TaskChangedEvent.Type.CREATED);
         return convertToTaskResponse(savedTask);
     }
 
@@ -103,15 +227,10 @@ public class TaskService {
                 .orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
 
         // Check if user has access to the project
-        User currentUser = userService.getAuthenticatedUser();
-        Project project = task.getProject();
-        boolean hasAccess = project.getOwner().getId().equals(currentUser.getId()) || 
-                           project.getMembers().stream().anyMatch(member -> member.getId().equals(currentUser.getId()));
-        
-        if (!hasAccess) {
-            throw new RuntimeException("You don't have access to this task");
-        }
+        projectMembershipService.checkAccess(task.getProject().getId(), authenticatedUser.getId(),
+                "You don't have access to this task");
 
+        ProjectStatsService.TaskSnapshot before = ProjectStatsService.TaskSnapshot.of(task);
         task.setTitle(taskRequest.getTitle());
         task.setDescription(taskRequest.getDescription());
         task.setPriority(taskRequest.getPriority());
@@ -129,6 +248,7 @@ public class TaskService {
         if (!task.getProject().getId().equals(taskRequest.getProjectId())) {
             Project newProject = projectRepository.findById(taskRequest.getProjectId())
                     .orElseThrow(() -> new RuntimeException("Project not found with id: " + taskRequest.getProjectId()));
+            publishTaskChanged(task, TaskChangedEvent.Type.MOVED);
             task.setProject(newProject);
         }
         
@@ -144,6 +264,8 @@ public class TaskService {
         }
 
         Task updatedTask = taskRepository.save(task);
+        projectStatsService.taskChanged(before, ProjectStatsService.TaskSnapshot.of(updatedTask));
+        publishTaskChanged(updatedTask, TaskChangedEvent.Type.UPDATED);
         return convertToTaskResponse(updatedTask);
     }
 
@@ -153,16 +275,13 @@ public class TaskService {
                 .orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
 
         // Check if user has access to the project
-        User currentUser = userService.getAuthenticatedUser();
-        Project project = task.getProject();
-        boolean hasAccess = project.getOwner().getId().equals(currentUser.getId()) || 
-                           project.getMembers().stream().anyMatch(member -> member.getId().equals(currentUser.getId()));
-        
-        if (!hasAccess) {
-            throw new RuntimeException("You don't have access to this task");
-        }
+        projectMembershipService.checkAccess(task.getProject().getId(), authenticatedUser.getId(),
+                "You don't have access to this task");
 
         taskRepository.delete(task);
+        projectStatsService.taskChanged(ProjectStatsService.TaskSnapshot.of(task), null);
+        deletionLog.recordTaskDeletions(List.of(task));
+        publishTaskChanged(task, TaskChangedEvent.Type.DELETED);
     }
 
     @Transactional
@@ -171,15 +290,10 @@ public class TaskService {
                 .orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
 
         // Check if user has access to the project
-        User currentUser = userService.getAuthenticatedUser();
-        Project project = task.getProject();
-        boolean hasAccess = project.getOwner().getId().equals(currentUser.getId()) || 
-                           project.getMembers().stream().anyMatch(member -> member.getId().equals(currentUser.getId()));
-        
-        if (!hasAccess) {
-            throw new RuntimeException("You don't have access to this task");
-        }
+        projectMembershipService.checkAccess(task.getProject().getId(), authenticatedUser.getId(),
+                "You don't have access to this task");
 
+        ProjectStatsService.TaskSnapshot before = ProjectStatsService.TaskSnapshot.of(task);
         try {
             TaskStatus taskStatus = TaskStatus.valueOf(status.toUpperCase());
             task.setStatus(taskStatus);
@@ -190,6 +304,8 @@ public class TaskService {
             }
             
             Task updatedTask = taskRepository.save(task);
+            projectStatsService.taskChanged(before, ProjectStatsService.TaskSnapshot.of(updatedTask));
+            publishTaskChanged(updatedTask, TaskChangedEvent.Type.STATUS_CHANGED);
             return convertToTaskResponse(updatedTask);
         } catch (IllegalArgumentException e) {
             throw new RuntimeException("Invalid task status: " + status);
@@ -206,15 +322,10 @@ public class TaskService {
                 .orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
 
         // Check if user has access to the project
-        User currentUser = userService.getAuthenticatedUser();
-        Project project = task.getProject();
-        boolean hasAccess = project.getOwner().getId().equals(currentUser.getId()) || 
-                           project.getMembers().stream().anyMatch(member -> member.getId().equals(currentUser.getId()));
-        
-        if (!hasAccess) {
-            throw new RuntimeException("You don't have access to this task");
-        }
+        projectMembershipService.checkAccess(task.getProject().getId(), authenticatedUser.getId(),
+                "You don't have access to this task");
 
+        ProjectStatsService.TaskSnapshot before = ProjectStatsService.TaskSnapshot.of(task);
         task.setProgressPercentage(progress);
         
         // Update status based on progress
@@ -227,6 +338,8 @@ public class TaskService {
         }
 
         Task updatedTask = taskRepository.save(task);
+        projectStatsService.taskChanged(before, ProjectStatsService.TaskSnapshot.of(updatedTask));
+        publishTaskChanged(updatedTask, TaskChangedEvent.Type.PROGRESS_CHANGED);
         return convertToTaskResponse(updatedTask);
     }
 
@@ -236,23 +349,54 @@ public class TaskService {
                 .orElseThrow(() -> new RuntimeException("Task not found with id: " + id));
 
         // Check if user has access to the project
-        User currentUser = userService.getAuthenticatedUser();
-        Project project = task.getProject();
-        boolean hasAccess = project.getOwner().getId().equals(currentUser.getId()) || 
-                           project.getMembers().stream().anyMatch(member -> member.getId().equals(currentUser.getId()));
-        
-        if (!hasAccess) {
-            throw new RuntimeException("You don't have access to this task");
-        }
+        projectMembershipService.checkAccess(task.getProject().getId(), authenticatedUser.getId(),
+                "You don't have access to this task");
 
         User assignee = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
 
         task.setAssignee(assignee);
         Task updatedTask = taskRepository.save(task);
+        publishTaskChanged(updatedTask, TaskChangedEvent.Type.ASSIGNED);
         return convertToTaskResponse(updatedTask);
     }
 
+    private void publishTaskChanged(Task task, TaskChangedEvent.Type type) {
+        eventPublisher.publishEvent(TaskChangedEvent.of(task, type));
+    }
+
+    private CursorPage<TaskResponse> toTaskPage(List<TaskResponse> rows, Limit pageLimit) {
+        return cursorPagination.page(rows, pageLimit, TaskResponse::getCreatedAt, TaskResponse::getId);
+    }
+
+    private void writeCsvRow(Writer writer, TaskResponse task) throws IOException {
+        UserSummaryDto assignee = task.getAssignee();
+        Object[] columns = {
+                task.getId(), task.getTitle(), task.getDescription(), task.getStatus(), task.getPriority(),
+                task.getDueDate(), task.getProjectId(), task.getProjectName(),
+                assignee != null ? assignee.getId() : null, assignee != null ? assignee.getUsername() : null,
+                task.getProgressPercentage(), task.isOverdue(), task.getCreatedAt(), task.getUpdatedAt()
+        };
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvValue(columns[i]));
+        }
+        writer.write('\n');
+    }
+
+    private String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+
     private TaskResponse convertToTaskResponse(Task task) {
         TaskResponse response = new TaskResponse();
         response.setId(task.getId());
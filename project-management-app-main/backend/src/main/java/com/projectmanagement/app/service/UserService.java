@@ -1,26 +1,45 @@
 package com.projectmanagement.app.service;
 
+import com.projectmanagement.app.dto.CursorPage;
 import com.projectmanagement.app.dto.UserSummaryDto;
+import com.projectmanagement.app.event.UserChangedEvent;
 import com.projectmanagement.app.model.User;
 import com.projectmanagement.app.repository.UserRepository;
-import com.projectmanagement.app.security.services.UserDetailsImpl;
+import com.projectmanagement.app.security.services.AuthenticatedUser;
+import com.projectmanagement.app.security.services.UserPrincipalCache;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "app.service", histogram = true)
 public class UserService {
     @Autowired
     private UserRepository userRepository;
 
-    public List<UserSummaryDto> getAllUsers() {
-        return userRepository.findAll().stream()
+    @Autowired
+    private CursorPagination cursorPagination;
+
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
+    @Autowired
+    private AuthenticatedUser authenticatedUser;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    public CursorPage<UserSummaryDto> getAllUsers(String cursor, Integer limit) {
+        Window<User> window = userRepository.findByOrderByUsernameAscIdAsc(
+                cursorPagination.byUsername(cursor), cursorPagination.limit(limit));
+        return cursorPagination.page(window, CursorPagination.USERNAME, users -> users.stream()
                 .map(this::convertToUserSummaryDto)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     public UserSummaryDto getUserById(Long id) {
@@ -30,25 +49,15 @@ public class UserService {
     }
 
     public UserSummaryDto getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
-        User user = userRepository.findById(userDetails.getId())
-                .orElseThrow(() -> new RuntimeException("Current user not found"));
-        return convertToUserSummaryDto(user);
-    }
-
-    public User getAuthenticatedUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
-        return userRepository.findById(userDetails.getId())
-                .orElseThrow(() -> new RuntimeException("Current user not found"));
+        return authenticatedUser.toUserSummaryDto();
     }
 
     public void deleteUser(Long id) {
-        if (!userRepository.existsById(id)) {
-            throw new RuntimeException("User not found with id: " + id);
-        }
-        userRepository.deleteById(id);
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
+        userRepository.delete(user);
+        userPrincipalCache.evict(user.getUsername());
+        eventPublisher.publishEvent(new UserChangedEvent(id));
     }
 
     public UserSummaryDto convertToUserSummaryDto(User user) {
@@ -0,0 +1,73 @@
+-- Schema of the application before migrations were introduced, as Hibernate's ddl-auto created it.
+-- Existing databases are baselined at this version, so the constraint names are Hibernate's.
+
+create table project_members (
+    project_id bigint not null,
+    user_id bigint not null,
+    primary key (project_id, user_id)
+);
+
+create table projects (
+    created_at timestamp(6) not null,
+    due_date timestamp(6),
+    id bigint generated by default as identity,
+    owner_id bigint not null,
+    start_date timestamp(6) not null,
+    updated_at timestamp(6),
+    description varchar(1000),
+    name varchar(255) not null,
+    status varchar(255) not null check (status in ('NOT_STARTED','IN_PROGRESS','ON_HOLD','COMPLETED','CANCELLED')),
+    primary key (id)
+);
+
+create table roles (
+    id bigint generated by default as identity,
+    name varchar(20) not null unique check (name in ('ROLE_USER','ROLE_ADMIN','ROLE_MEMBER')),
+    primary key (id)
+);
+
+create table tasks (
+    priority integer not null,
+    progress_percentage integer,
+    assignee_id bigint,
+    created_at timestamp(6) not null,
+    due_date timestamp(6),
+    id bigint generated by default as identity,
+    project_id bigint not null,
+    updated_at timestamp(6),
+    description varchar(1000),
+    status varchar(255) not null check (status in ('TODO','IN_PROGRESS','REVIEW','DONE','BLOCKED')),
+    title varchar(255) not null,
+    primary key (id)
+);
+
+create table user_roles (
+    role_id bigint not null,
+    user_id bigint not null,
+    primary key (role_id, user_id)
+);
+
+create table users (
+    id bigint generated by default as identity,
+    email varchar(255) not null,
+    full_name varchar(255) not null,
+    password varchar(255) not null,
+    username varchar(255) not null,
+    primary key (id),
+    unique (username),
+    unique (email)
+);
+
+alter table project_members add constraint FKgul2el0qjk5lsvig3wgajwm77 foreign key (user_id) references users;
+
+alter table project_members add constraint FKdki1sp2homqsdcvqm9yrix31g foreign key (project_id) references projects;
+
+alter table projects add constraint FKmueqy6cpcwpfl8gnnag4idjt9 foreign key (owner_id) references users;
+
+alter table tasks add constraint FKekr1dgiqktpyoip3qmp6lxsit foreign key (assignee_id) references users;
+
+alter table tasks add constraint FKsfhn82y57i3k9uxww1s007acc foreign key (project_id) references projects;
+
+alter table user_roles add constraint FKh8ciramu9cc9q3qcqiv4ue8a6 foreign key (role_id) references roles;
+
+alter table user_roles add constraint FKhfh9dx7w3ubf1co1vdev94g3f foreign key (user_id) references users;
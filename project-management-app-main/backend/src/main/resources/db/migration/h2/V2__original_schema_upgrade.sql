@@ -0,0 +1,52 @@
+-- Upgrades the original schema to the entities as of the introduction of migrations. Task and project
+-- ids come from pooled sequences of 50, which start so that their first block lies above the ids in
+-- use. DatabaseInitializer fills in the missing updated_at values and creates the missing project_stats
+-- rows on startup.
+
+alter table projects alter column id drop identity;
+
+alter table tasks alter column id drop identity;
+
+alter table projects add column version bigint default 0 not null;
+
+alter table tasks add column version bigint default 0 not null;
+
+create sequence deletions_seq start with 1 increment by 50;
+
+create sequence projects_seq start with 1 increment by 50;
+
+alter sequence projects_seq restart with (select coalesce(max(id) + 50, 1) from projects);
+
+create sequence tasks_seq start with 1 increment by 50;
+
+alter sequence tasks_seq restart with (select coalesce(max(id) + 50, 1) from tasks);
+
+create table deletions (
+    deleted_at timestamp(6) not null,
+    entity_id bigint not null,
+    id bigint not null,
+    project_id bigint not null,
+    type varchar(255) not null check (type in ('TASK','PROJECT')),
+    primary key (id)
+);
+
+create table project_stats (
+    blocked_tasks bigint not null,
+    done_tasks bigint not null,
+    in_progress_tasks bigint not null,
+    overdue_tasks bigint not null,
+    progress_sum bigint not null,
+    project_id bigint not null,
+    reconciled_at timestamp(6),
+    review_tasks bigint not null,
+    revision bigint default 0 not null,
+    todo_tasks bigint not null,
+    total_tasks bigint not null,
+    primary key (project_id)
+);
+
+create index idx_deletions_deleted_at on deletions (deleted_at, id);
+
+create index idx_projects_updated_at on projects (updated_at, id);
+
+create index idx_tasks_updated_at on tasks (updated_at, id);
@@ -0,0 +1,77 @@
+-- Schema of the application before migrations were introduced, as Hibernate's ddl-auto created it.
+-- Existing databases are baselined at this version, so the constraint names are Hibernate's.
+
+create table project_members (
+    project_id bigint not null,
+    user_id bigint not null,
+    primary key (project_id, user_id)
+) engine=InnoDB;
+
+create table projects (
+    created_at datetime(6) not null,
+    due_date datetime(6),
+    id bigint not null auto_increment,
+    owner_id bigint not null,
+    start_date datetime(6) not null,
+    updated_at datetime(6),
+    description varchar(1000),
+    name varchar(255) not null,
+    status enum ('NOT_STARTED','IN_PROGRESS','ON_HOLD','COMPLETED','CANCELLED') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table roles (
+    id bigint not null auto_increment,
+    name enum ('ROLE_USER','ROLE_ADMIN','ROLE_MEMBER') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table tasks (
+    priority integer not null,
+    progress_percentage integer,
+    assignee_id bigint,
+    created_at datetime(6) not null,
+    due_date datetime(6),
+    id bigint not null auto_increment,
+    project_id bigint not null,
+    updated_at datetime(6),
+    description varchar(1000),
+    title varchar(255) not null,
+    status enum ('TODO','IN_PROGRESS','REVIEW','DONE','BLOCKED') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table user_roles (
+    role_id bigint not null,
+    user_id bigint not null,
+    primary key (role_id, user_id)
+) engine=InnoDB;
+
+create table users (
+    id bigint not null auto_increment,
+    email varchar(255) not null,
+    full_name varchar(255) not null,
+    password varchar(255) not null,
+    username varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table roles add constraint UK_ofx66keruapi6vyqpv6f2or37 unique (name);
+
+alter table users add constraint UKr43af9ap4edm43mmtq01oddj6 unique (username);
+
+alter table users add constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email);
+
+alter table project_members add constraint FKgul2el0qjk5lsvig3wgajwm77 foreign key (user_id) references users (id);
+
+alter table project_members add constraint FKdki1sp2homqsdcvqm9yrix31g foreign key (project_id) references projects (id);
+
+alter table projects add constraint FKmueqy6cpcwpfl8gnnag4idjt9 foreign key (owner_id) references users (id);
+
+alter table tasks add constraint FKekr1dgiqktpyoip3qmp6lxsit foreign key (assignee_id) references users (id);
+
+alter table tasks add constraint FKsfhn82y57i3k9uxww1s007acc foreign key (project_id) references projects (id);
+
+alter table user_roles add constraint FKh8ciramu9cc9q3qcqiv4ue8a6 foreign key (role_id) references roles (id);
+
+alter table user_roles add constraint FKhfh9dx7w3ubf1co1vdev94g3f foreign key (user_id) references users (id);
@@ -0,0 +1,64 @@
+-- Upgrades the original schema to the entities as of the introduction of migrations. Task and project
+-- ids come from pooled sequences of 50, which start so that their first block lies above the ids in
+-- use. DatabaseInitializer fills in the missing updated_at values and creates the missing project_stats
+-- rows on startup.
+
+set foreign_key_checks = 0;
+
+alter table projects modify id bigint not null;
+
+alter table tasks modify id bigint not null;
+
+set foreign_key_checks = 1;
+
+alter table projects add column version bigint default 0 not null;
+
+alter table tasks add column version bigint default 0 not null;
+
+create table deletions_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into deletions_seq values (1);
+
+create table projects_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into projects_seq select coalesce(max(id) + 50, 1) from projects;
+
+create table tasks_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into tasks_seq select coalesce(max(id) + 50, 1) from tasks;
+
+create table deletions (
+    deleted_at datetime(6) not null,
+    entity_id bigint not null,
+    id bigint not null,
+    project_id bigint not null,
+    type enum ('TASK','PROJECT') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table project_stats (
+    blocked_tasks bigint not null,
+    done_tasks bigint not null,
+    in_progress_tasks bigint not null,
+    overdue_tasks bigint not null,
+    progress_sum bigint not null,
+    project_id bigint not null,
+    reconciled_at datetime(6),
+    review_tasks bigint not null,
+    revision bigint default 0 not null,
+    todo_tasks bigint not null,
+    total_tasks bigint not null,
+    primary key (project_id)
+) engine=InnoDB;
+
+create index idx_deletions_deleted_at on deletions (deleted_at, id);
+
+create index idx_projects_updated_at on projects (updated_at, id);
+
+create index idx_tasks_updated_at on tasks (updated_at, id);
@@ -0,0 +1,21 @@
+-- Indexes for the filters and orders of the repository queries, so that list pages, access checks and
+-- dashboards read index ranges rather than whole tables.
+
+-- Keyset pages of a project's tasks, and task figures per project
+create index idx_tasks_project_created_at on tasks (project_id, created_at, id);
+create index idx_tasks_project_status on tasks (project_id, status, due_date);
+
+-- Keyset pages of a user's assigned tasks, and their dashboard counts and upcoming/overdue lists
+create index idx_tasks_assignee_created_at on tasks (assignee_id, created_at, id);
+create index idx_tasks_assignee_status_due_date on tasks (assignee_id, status, due_date);
+
+-- Keyset pages of all tasks and all projects
+create index idx_tasks_created_at on tasks (created_at, id);
+create index idx_projects_created_at on projects (created_at, id);
+
+-- Projects a user owns or is a member of
+create index idx_projects_owner_created_at on projects (owner_id, created_at);
+create index idx_project_members_user on project_members (user_id, project_id);
+
+-- Keyset pages of users ordered by (username, id)
+create index idx_users_username on users (username, id);
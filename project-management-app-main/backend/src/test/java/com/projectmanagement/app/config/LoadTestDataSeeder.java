@@ -0,0 +1,210 @@
+package com.projectmanagement.app.config;
+
+import com.projectmanagement.app.model.ERole;
+import com.projectmanagement.app.model.Project;
+import com.projectmanagement.app.model.ProjectStatus;
+import com.projectmanagement.app.model.Role;
+import com.projectmanagement.app.model.Task;
+import com.projectmanagement.app.model.TaskStatus;
+import com.projectmanagement.app.model.User;
+import com.projectmanagement.app.repository.ProjectRepository;
+import com.projectmanagement.app.repository.RoleRepository;
+import com.projectmanagement.app.repository.TaskRepository;
+import com.projectmanagement.app.repository.UserRepository;
+import com.projectmanagement.app.service.ProjectStatsService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Fills an empty database with synthetic users, projects, members and tasks for load testing.
+ *
+ * Only active with the loadtest profile. Users are named seed-user-0, seed-user-1, ... and all share
+ * the password app.seed.password. Project p is owned by user p % users and has the following
+ * members-per-project users as members; its tasks are assigned to the owner and members. Rows are
+ * written in chunks, one transaction per chunk, so tasks and projects go out as JDBC batches.
+ */
+@Component
+@Profile("loadtest")
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class LoadTestDataSeeder implements CommandLineRunner {
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestDataSeeder.class);
+
+    private static final String USERNAME_PREFIX = "seed-user-";
+
+    private static final TaskStatus[] TASK_STATUSES = TaskStatus.values();
+
+    private static final ProjectStatus[] PROJECT_STATUSES = ProjectStatus.values();
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectStatsService projectStatsService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.seed.users:1000}")
+    private int userCount;
+
+    @Value("${app.seed.projects:500}")
+    private int projectCount;
+
+    @Value("${app.seed.members-per-project:5}")
+    private int membersPerProject;
+
+    @Value("${app.seed.tasks-per-project:40}")
+    private int tasksPerProject;
+
+    @Value("${app.seed.password:password}")
+    private String password;
+
+    @Value("${app.seed.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.seed.random-seed:42}")
+    private long randomSeed;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public LoadTestDataSeeder(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void run(String... args) {
+        if (userRepository.existsByUsername(USERNAME_PREFIX + 0)) {
+            logger.info("Seed data already present, skipping");
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        Random random = new Random(randomSeed);
+        List<User> users = seedUsers();
+        List<Project> projects = seedProjects(users, random);
+        long tasks = seedTasks(projects, random);
+        projectStatsService.createMissing();
+
+        logger.info("Seeded {} users, {} projects and {} tasks in {} ms", users.size(), projects.size(), tasks,
+                System.currentTimeMillis() - start);
+    }
+
+    private List<User> seedUsers() {
+        Role userRole = roleRepository.findByName(ERole.ROLE_USER)
+                .orElseThrow(() -> new RuntimeException("Role is not found."));
+        // One hash for everyone; hashing each password would dominate the seeding time
+        String encodedPassword = passwordEncoder.encode(password);
+
+        List<User> users = new ArrayList<>(userCount);
+        for (int from = 0; from < userCount; from += chunkSize) {
+            List<User> chunk = new ArrayList<>();
+            for (int i = from; i < Math.min(from + chunkSize, userCount); i++) {
+                User user = new User();
+                user.setUsername(USERNAME_PREFIX + i);
+                user.setEmail(USERNAME_PREFIX + i + "@example.com");
+                user.setPassword(encodedPassword);
+                user.setFullName("Seed User " + i);
+                user.getRoles().add(userRole);
+                chunk.add(user);
+            }
+            users.addAll(inTransaction(() -> userRepository.saveAll(chunk)));
+        }
+        return users;
+    }
+
+    private List<Project> seedProjects(List<User> users, Random random) {
+        List<Project> projects = new ArrayList<>(projectCount);
+        for (int from = 0; from < projectCount; from += chunkSize) {
+            List<Project> chunk = new ArrayList<>();
+            for (int p = from; p < Math.min(from + chunkSize, projectCount); p++) {
+                Project project = new Project();
+                project.setName("Seed project " + p);
+                project.setDescription("Synthetic project for load testing");
+                project.setStartDate(LocalDateTime.now().minusDays(random.nextInt(365)));
+                project.setDueDate(LocalDateTime.now().plusDays(random.nextInt(365)));
+                project.setStatus(PROJECT_STATUSES[random.nextInt(PROJECT_STATUSES.length)]);
+                project.setOwner(users.get(p % users.size()));
+                for (int m = 1; m <= Math.min(membersPerProject, users.size() - 1); m++) {
+                    project.getMembers().add(users.get((p + m) % users.size()));
+                }
+                chunk.add(project);
+            }
+            projects.addAll(inTransaction(() -> projectRepository.saveAll(chunk)));
+        }
+        return projects;
+    }
+
+    private long seedTasks(List<Project> projects, Random random) {
+        long total = (long) projects.size() * tasksPerProject;
+        List<Task> chunk = new ArrayList<>(chunkSize);
+        for (Project project : projects) {
+            List<User> assignees = new ArrayList<>(project.getMembers());
+            assignees.add(project.getOwner());
+            for (int t = 0; t < tasksPerProject; t++) {
+                Task task = new Task();
+                task.setTitle(project.getName() + " task " + t);
+                task.setDescription("Synthetic task for load testing");
+                task.setStatus(TASK_STATUSES[random.nextInt(TASK_STATUSES.length)]);
+                task.setPriority(1 + random.nextInt(5));
+                // Spread due dates from a month ago to three months ahead, so some tasks are overdue
+                task.setDueDate(LocalDateTime.now().plusDays(random.nextInt(120) - 30));
+                task.setProgressPercentage(task.getStatus() == TaskStatus.DONE ? 100 : random.nextInt(100));
+                task.setProject(project);
+                task.setAssignee(random.nextInt(10) == 0 ? null : assignees.get(random.nextInt(assignees.size())));
+                chunk.add(task);
+                if (chunk.size() == chunkSize) {
+                    saveTasks(chunk);
+                }
+            }
+        }
+        saveTasks(chunk);
+        return total;
+    }
+
+    private void saveTasks(List<Task> chunk) {
+        if (!chunk.isEmpty()) {
+            inTransaction(() -> taskRepository.saveAll(chunk));
+            chunk.clear();
+        }
+    }
+
+    // Clears the persistence context after each chunk so it does not grow with the data set
+    private <T> T inTransaction(Supplier<T> work) {
+        return transactionTemplate.execute(status -> {
+            T result = work.get();
+            entityManager.flush();
+            entityManager.clear();
+            return result;
+        });
+    }
+}
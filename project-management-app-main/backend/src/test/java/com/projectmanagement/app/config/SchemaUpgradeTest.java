@@ -0,0 +1,104 @@
+package com.projectmanagement.app.config;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationState;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Starts the application on a database that the original application created with ddl-auto, without a
+ * migration history: it is baselined at version 1, upgraded by the later migrations and validated, and the
+ * seeder then writes new rows next to the existing ones. The upgrade itself starts the id sequences above
+ * the existing ids.
+ */
+@SpringBootTest
+@ActiveProfiles("loadtest")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:schema-upgrade;DB_CLOSE_DELAY=-1",
+        "app.seed.users=20",
+        "app.seed.projects=5",
+        "app.seed.members-per-project=2",
+        "app.seed.tasks-per-project=4"
+})
+class SchemaUpgradeTest {
+    private static final long EXISTING_ID = 100;
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TestConfiguration
+    static class OriginalSchema {
+        // Creates the original schema and some rows before Flyway sees the database
+        @Bean
+        FlywayMigrationStrategy originalSchemaThenMigrate() {
+            return flyway -> {
+                DataSource dataSource = flyway.getConfiguration().getDataSource();
+                new ResourceDatabasePopulator(new ClassPathResource("db/migration/h2/V1__initial_schema.sql"))
+                        .execute(dataSource);
+                JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+                jdbcTemplate.update("insert into roles (id, name) values (1, 'ROLE_USER'), (2, 'ROLE_ADMIN'), "
+                        + "(3, 'ROLE_MEMBER')");
+                jdbcTemplate.update("insert into users (id, username, email, full_name, password) "
+                        + "values (?, 'original', 'original@example.com', 'Original User', 'x')", EXISTING_ID);
+                jdbcTemplate.update("insert into projects (id, name, status, owner_id, start_date, created_at) "
+                        + "values (?, 'Original project', 'IN_PROGRESS', ?, now(), now())", EXISTING_ID, EXISTING_ID);
+                jdbcTemplate.update("insert into tasks (id, title, status, priority, project_id, created_at) "
+                        + "values (?, 'Original task', 'TODO', 1, ?, now())", EXISTING_ID, EXISTING_ID);
+                flyway.migrate();
+                // Before anything else runs, so that no request can get an id already in use
+                assertTrue(jdbcTemplate.queryForObject("select next value for tasks_seq", Long.class) > EXISTING_ID);
+                assertTrue(jdbcTemplate.queryForObject("select next value for projects_seq", Long.class) > EXISTING_ID);
+            };
+        }
+    }
+
+    @Test
+    void originalDatabaseIsBaselinedAndUpgraded() {
+        List<String> applied = Arrays.stream(flyway.info().applied())
+                .filter(migration -> migration.getState() == MigrationState.SUCCESS
+                        || migration.getState() == MigrationState.BASELINE)
+                .map(MigrationInfo::getVersion)
+                .map(Object::toString)
+                .toList();
+        assertEquals(List.of("1", "2", "3"), applied);
+        assertEquals(MigrationState.BASELINE, flyway.info().applied()[0].getState());
+    }
+
+    @Test
+    void existingRowsAreKeptAndCompleted() {
+        assertEquals("Original task", jdbcTemplate.queryForObject("select title from tasks where id = ?", String.class,
+                EXISTING_ID));
+        assertEquals(1L, jdbcTemplate.queryForObject("select total_tasks from project_stats where project_id = ?",
+                Long.class, EXISTING_ID));
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from tasks where updated_at is null", Integer.class));
+    }
+
+    @Test
+    void newRowsGetIdsPastTheExistingOnes() {
+        assertTrue(jdbcTemplate.queryForObject("select count(*) from tasks", Integer.class) > 1);
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from tasks where id < ?", Integer.class,
+                EXISTING_ID));
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from projects where id < ?", Integer.class,
+                EXISTING_ID));
+    }
+}
@@ -0,0 +1,51 @@
+package com.projectmanagement.app.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The scraper account reads the Prometheus endpoint with its password only, and no other actuator endpoint.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("loadtest")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:scrape-security;DB_CLOSE_DELAY=-1",
+        "app.seed.users=5",
+        "app.seed.projects=2",
+        "app.metrics.scrape-password=scrape-secret"
+})
+class ScrapeSecurityTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void scraperReadsPrometheusEndpoint() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("prometheus", "scrape-secret")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void wrongOrMissingCredentialsAreRejected() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("prometheus", "wrong")))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/prometheus")).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void scraperCannotReadOtherActuatorEndpoints() throws Exception {
+        mockMvc.perform(get("/actuator/metrics").with(httpBasic("prometheus", "scrape-secret")))
+                .andExpect(status().isUnauthorized());
+    }
+}
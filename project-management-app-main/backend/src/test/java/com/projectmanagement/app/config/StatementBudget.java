@@ -0,0 +1,28 @@
+package com.projectmanagement.app.config;
+
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the number of SQL statements an action runs on the current thread, counted by
+ * {@link StatementCountingDataSource}. MockMvc handles a request on the calling thread, so
+ * {@code assertStatements(2, () -> mockMvc.perform(get("/api/tasks")))} checks a whole request.
+ */
+public final class StatementBudget {
+    private StatementBudget() {
+    }
+
+    public static <T> T assertStatements(int expected, Callable<T> action) throws Exception {
+        StatementCountingDataSource.startCounting();
+        int actual;
+        T result;
+        try {
+            result = action.call();
+        } finally {
+            actual = StatementCountingDataSource.stopCounting();
+        }
+        assertEquals(expected, actual, "SQL statements executed");
+        return result;
+    }
+}
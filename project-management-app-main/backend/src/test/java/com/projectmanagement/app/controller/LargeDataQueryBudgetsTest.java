@@ -0,0 +1,13 @@
+package com.projectmanagement.app.controller;
+
+import org.springframework.test.context.TestPropertySource;
+
+// Ten times the projects of SmallDataQueryBudgetsTest, and seven times the members per project
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-budgets-large;DB_CLOSE_DELAY=-1",
+        "app.seed.projects=500",
+        "app.seed.members-per-project=21",
+        "app.sync.settle-ms=0"
+})
+class LargeDataQueryBudgetsTest extends QueryBudgetsTest {
+}
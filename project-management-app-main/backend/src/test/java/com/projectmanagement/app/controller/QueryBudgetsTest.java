@@ -0,0 +1,221 @@
+package com.projectmanagement.app.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanagement.app.config.CacheRegistry;
+import com.projectmanagement.app.service.TaskDueDateScheduler;
+import com.projectmanagement.app.service.TaskSearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import static com.projectmanagement.app.config.StatementBudget.assertStatements;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Exact number of SQL statements per request on the seeded loadtest profile. List endpoints must not
+ * grow with the data, so the subclasses run the same budgets at two data volumes and an N+1 query
+ * shows up as a count that changes between them.
+ *
+ * The fixtures are looked up first, then the caches are emptied and only the caller's principal is
+ * loaded again, so each budget is that of a request on cold caches, whatever order the tests run in.
+ * Requests on a single project or task include the project membership lookup of the access check. A
+ * conditional GET sends back the ETag of the same GET and must be answered 304 Not Modified from one
+ * version query.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("loadtest")
+abstract class QueryBudgetsTest {
+    private static final String USERNAME = "seed-user-3";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CacheRegistry cacheRegistry;
+
+    @Autowired
+    private TaskSearchService taskSearchService;
+
+    @Autowired
+    private TaskDueDateScheduler taskDueDateScheduler;
+
+    private String authorization;
+
+    private long userId;
+
+    private long projectId;
+
+    private long taskId;
+
+    private long nonMemberId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JsonNode signin = json(mockMvc.perform(post("/api/auth/signin")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"" + USERNAME + "\",\"password\":\"password\"}")));
+        authorization = "Bearer " + signin.get("token").asText();
+        userId = signin.get("id").asLong();
+        JsonNode project = ownedProject();
+        projectId = project.get("id").asLong();
+        taskId = openAssignedTask();
+        nonMemberId = nonMember(project);
+
+        cacheRegistry.getCaches().values().forEach(cache -> cache.invalidateAll());
+        // Loads the principal again, so budgets do not count it
+        mockMvc.perform(authorized(get("/api/users/me"))).andExpect(status().isOk());
+    }
+
+    @Test
+    void projectList() throws Exception {
+        assertGetBudget(4, "/api/projects?limit=50");
+    }
+
+    @Test
+    void projectsOfUser() throws Exception {
+        assertGetBudget(4, "/api/projects/user");
+    }
+
+    @Test
+    void project() throws Exception {
+        assertGetBudget(5, "/api/projects/" + projectId);
+    }
+
+    @Test
+    void taskList() throws Exception {
+        assertGetBudget(2, "/api/tasks?limit=50");
+    }
+
+    @Test
+    void tasksOfProject() throws Exception {
+        assertGetBudget(2, "/api/tasks/project/" + projectId + "?limit=50");
+    }
+
+    @Test
+    void assignedTasks() throws Exception {
+        assertGetBudget(2, "/api/tasks/assigned?limit=50");
+    }
+
+    @Test
+    void task() throws Exception {
+        assertGetBudget(4, "/api/tasks/" + taskId);
+    }
+
+    @Test
+    void search() throws Exception {
+        awaitLoaded(taskSearchService::isLoaded);
+        assertStatements(2, () -> mockMvc.perform(authorized(get("/api/tasks/search?q=seed+task*&limit=50"))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void overdueTasks() throws Exception {
+        awaitLoaded(taskDueDateScheduler::isLoaded);
+        assertStatements(2, () -> mockMvc.perform(authorized(get("/api/tasks/overdue?limit=50"))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void userList() throws Exception {
+        assertStatements(2, () -> mockMvc.perform(authorized(get("/api/users?limit=50"))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void sync() throws Exception {
+        assertStatements(5, () -> mockMvc.perform(authorized(get("/api/sync?limit=50"))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void taskStatusAndProgress() throws Exception {
+        assertStatements(6, () -> mockMvc.perform(authorized(patch("/api/tasks/" + taskId + "/status?status=DONE"))))
+                .andExpect(status().isOk());
+        assertStatements(5, () -> mockMvc.perform(authorized(patch("/api/tasks/" + taskId + "/progress?progress=40"))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void addAndRemoveMember() throws Exception {
+        String url = "/api/projects/" + projectId + "/members/" + nonMemberId;
+        assertStatements(8, () -> mockMvc.perform(authorized(post(url)))).andExpect(status().isOk());
+        assertStatements(8, () -> mockMvc.perform(authorized(delete(url)))).andExpect(status().isOk());
+    }
+
+    // The GET within its budget, then the same GET revalidated with its ETag
+    private void assertGetBudget(int statements, String url) throws Exception {
+        String etag = assertStatements(statements, () -> mockMvc.perform(authorized(get(url))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertStatements(1, () -> mockMvc.perform(authorized(get(url)).header(HttpHeaders.IF_NONE_MATCH, etag)))
+                .andExpect(status().isNotModified());
+    }
+
+    // Indexes load in the background once the application is ready, and answer with fewer queries until then
+    private static void awaitLoaded(BooleanSupplier loaded) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 60_000;
+        while (!loaded.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    private JsonNode ownedProject() throws Exception {
+        for (JsonNode project : json(mockMvc.perform(authorized(get("/api/projects/user"))))) {
+            if (project.get("owner").get("id").asLong() == userId) {
+                return project;
+            }
+        }
+        throw new IllegalStateException(USERNAME + " owns no project");
+    }
+
+    // Not already DONE, so that setting the status changes the task
+    private long openAssignedTask() throws Exception {
+        for (JsonNode task : json(mockMvc.perform(authorized(get("/api/tasks/assigned?limit=50")))).get("items")) {
+            if (!task.get("status").asText().equals("DONE")) {
+                return task.get("id").asLong();
+            }
+        }
+        throw new IllegalStateException(USERNAME + " has no open task");
+    }
+
+    private long nonMember(JsonNode project) throws Exception {
+        Set<Long> excluded = new HashSet<>();
+        excluded.add(project.get("owner").get("id").asLong());
+        project.get("members").forEach(member -> excluded.add(member.get("id").asLong()));
+        for (JsonNode user : json(mockMvc.perform(authorized(get("/api/users?limit=200")))).get("items")) {
+            if (!excluded.contains(user.get("id").asLong())) {
+                return user.get("id").asLong();
+            }
+        }
+        throw new IllegalStateException("Every user is a member of project " + project.get("id"));
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, authorization);
+    }
+
+    private JsonNode json(ResultActions result) throws Exception {
+        return objectMapper.readTree(result.andExpect(status().isOk()).andReturn().getResponse().getContentAsString());
+    }
+}
@@ -0,0 +1,13 @@
+package com.projectmanagement.app.controller;
+
+import org.springframework.test.context.TestPropertySource;
+
+// Sync reads right up to the current time, so that its page is not empty right after seeding
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-budgets-small;DB_CLOSE_DELAY=-1",
+        "app.seed.projects=50",
+        "app.seed.members-per-project=3",
+        "app.sync.settle-ms=0"
+})
+class SmallDataQueryBudgetsTest extends QueryBudgetsTest {
+}
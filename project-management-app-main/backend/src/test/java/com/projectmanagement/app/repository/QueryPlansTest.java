@@ -0,0 +1,201 @@
+package com.projectmanagement.app.repository;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs every query method declared by the repositories, derived ones included, with sample arguments,
+ * captures the SQL Hibernate sends for it and asserts that H2's EXPLAIN of that SQL reads every table through an index, so that a
+ * query without a usable index fails the build rather than slowing down production. When a new query
+ * fails, add an index for it in a new migration.
+ *
+ * Queries that read whole tables on purpose are listed in {@link #FULL_READS} with the reason. Keyset
+ * queries get a position past the first page, ordered by the properties their names sort by.
+ */
+@SpringBootTest
+@ActiveProfiles("loadtest")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-plans;DB_CLOSE_DELAY=-1",
+        "app.seed.users=200",
+        "app.seed.projects=100",
+        "app.seed.members-per-project=3",
+        "app.seed.tasks-per-project=10"
+})
+class QueryPlansTest {
+    private static final Map<String, String> FULL_READS = Map.of(
+            "TaskRepository.streamSearchDocuments", "bulk load of the search index",
+            "TaskRepository.streamOpenDueDocuments", "bulk load of the due date index",
+            "ProjectStatsRepository.deleteOrphans", "reconcile check over every stats row");
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CapturingStatementInspector statementInspector;
+
+    @TestConfiguration
+    static class StatementCapture {
+        @Bean
+        CapturingStatementInspector capturingStatementInspector() {
+            return new CapturingStatementInspector();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer statementInspectorCustomizer(CapturingStatementInspector inspector) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+        }
+    }
+
+    // Collects the SQL of the calling thread only, since the indexes query on their own threads meanwhile
+    static class CapturingStatementInspector implements StatementInspector {
+        private final ThreadLocal<List<String>> captured = new ThreadLocal<>();
+
+        @Override
+        public String inspect(String sql) {
+            List<String> statements = captured.get();
+            if (statements != null) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+
+        List<String> capture(Runnable action) {
+            captured.set(new ArrayList<>());
+            try {
+                action.run();
+                return captured.get();
+            } finally {
+                captured.remove();
+            }
+        }
+    }
+
+    @Test
+    void everyQueryReadsThroughIndexes() {
+        Repositories repositories = new Repositories(applicationContext);
+        Map<String, String> failures = new TreeMap<>();
+        int checked = 0;
+        for (Class<?> domainType : repositories) {
+            Object repository = repositories.getRepositoryFor(domainType).orElseThrow();
+            Class<?> repositoryInterface = repositories.getRequiredRepositoryInformation(domainType)
+                    .getRepositoryInterface();
+            List<Method> methods = Stream.of(repositoryInterface.getDeclaredMethods())
+                    .sorted(Comparator.comparing(Method::getName))
+                    .toList();
+            for (Method method : methods) {
+                String name = repositoryInterface.getSimpleName() + "." + method.getName();
+                List<String> statements = statementInspector.capture(
+                        () -> invokeAndRollBack(repository, method, domainType));
+                assertFalse(statements.isEmpty(), name + " ran no statement");
+                for (String sql : statements) {
+                    String plan = explain(sql);
+                    if (plan.contains(".tableScan") && !FULL_READS.containsKey(name)) {
+                        failures.put(name, sql + "\n" + plan);
+                    }
+                }
+                checked++;
+            }
+        }
+        assertTrue(checked > 0, "No query methods found");
+        assertTrue(failures.isEmpty(), "Queries reading whole tables:\n" + String.join("\n\n",
+                failures.entrySet().stream().map(failure -> failure.getKey() + ": " + failure.getValue()).toList()));
+    }
+
+    private void invokeAndRollBack(Object repository, Method method, Class<?> domainType) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            try {
+                Object result = method.invoke(repository, Stream.of(method.getParameterTypes())
+                        .map(type -> type == ScrollPosition.class
+                                ? keysetPosition(method, domainType)
+                                : sampleArgument(type))
+                        .toArray());
+                if (result instanceof Stream<?> stream) {
+                    try (stream) {
+                        stream.limit(1).forEach(row -> { });
+                    }
+                }
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            } catch (InvocationTargetException e) {
+                throw new IllegalStateException(method.getName() + " failed", e.getTargetException());
+            }
+            status.setRollbackOnly();
+        });
+    }
+
+    // A position after the first row, keyed by the properties a derived keyset query orders by
+    private static ScrollPosition keysetPosition(Method method, Class<?> domainType) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (Sort.Order order : new PartTree(method.getName(), domainType).getSort()) {
+            keys.put(order.getProperty(), sampleArgument(
+                    BeanUtils.getPropertyDescriptor(domainType, order.getProperty()).getPropertyType()));
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    private static Object sampleArgument(Class<?> type) {
+        if (type == Long.class || type == long.class) {
+            return 1L;
+        } else if (type == String.class) {
+            return "seed-user-1";
+        } else if (type == LocalDateTime.class) {
+            return LocalDateTime.now();
+        } else if (Collection.class.isAssignableFrom(type)) {
+            return List.of(1L, 2L);
+        } else if (type == Limit.class) {
+            return Limit.of(50);
+        } else if (type.isEnum()) {
+            return type.getEnumConstants()[0];
+        }
+        throw new IllegalArgumentException("No sample argument of type " + type.getName());
+    }
+
+    // H2 plans statements with unbound parameters, and marks a table read without an index as tableScan
+    private String explain(String sql) {
+        String statement = sql.strip().toLowerCase(Locale.ROOT);
+        if (statement.startsWith("insert")) {
+            return "";
+        }
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+}
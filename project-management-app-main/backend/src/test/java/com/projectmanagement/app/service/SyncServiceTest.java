@@ -0,0 +1,79 @@
+package com.projectmanagement.app.service;
+
+import com.projectmanagement.app.dto.SyncResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("loadtest")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sync;DB_CLOSE_DELAY=-1",
+        "app.seed.users=20",
+        "app.seed.projects=5",
+        "app.seed.members-per-project=2",
+        "app.sync.settle-ms=0"
+})
+class SyncServiceTest {
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Every row last changed before the tombstone retention period
+    @BeforeEach
+    void ageRows() {
+        LocalDateTime longAgo = LocalDateTime.now().minusDays(90);
+        jdbcTemplate.update("update projects set updated_at = ?", longAgo);
+        jdbcTemplate.update("update tasks set updated_at = ?", longAgo);
+    }
+
+    @Test
+    void fullDownloadOfOldRowsPagesThroughWithoutStartingOver() {
+        int taskCount = jdbcTemplate.queryForObject("select count(*) from tasks", Integer.class);
+        SyncResponse page = syncService.getChanges(null, 50);
+        assertTrue(page.isReset());
+        int tasks = page.getTasks().size();
+        int pages = 1;
+        while (page.isHasMore()) {
+            page = syncService.getChanges(page.getWatermark(), 50);
+            assertFalse(page.isReset(), "page " + (pages + 1) + " started over");
+            tasks += page.getTasks().size();
+            assertTrue(++pages <= taskCount, "paging did not end");
+        }
+        assertEquals(taskCount, tasks);
+
+        SyncResponse next = syncService.getChanges(page.getWatermark(), 50);
+        assertFalse(next.isReset());
+        assertTrue(next.getTasks().isEmpty());
+    }
+
+    @Test
+    void watermarkFromBeforeTheRetentionPeriodStartsOver() {
+        String stale = watermark(LocalDateTime.now().minusDays(60) + "|TASK|1|" + LocalDateTime.now().minusDays(31));
+        assertTrue(syncService.getChanges(stale, 50).isReset());
+    }
+
+    @Test
+    void watermarkWithoutIssueTimeIsJudgedByItsPosition() {
+        assertTrue(syncService.getChanges(watermark(LocalDateTime.now().minusDays(60) + "|TASK|1"), 50).isReset());
+        assertFalse(syncService.getChanges(watermark(LocalDateTime.now().minusDays(1) + "||0"), 50).isReset());
+    }
+
+    private static String watermark(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
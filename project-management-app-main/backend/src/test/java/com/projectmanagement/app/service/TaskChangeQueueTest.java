@@ -0,0 +1,50 @@
+package com.projectmanagement.app.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskChangeQueueTest {
+    // Runs delayed retries right away, so the test does not wait for the retry delay
+    private final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1) {
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            return super.schedule(command, 0, unit);
+        }
+    };
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void failedReloadIsRetriedWithoutFurtherChanges() throws InterruptedException {
+        AtomicInteger attempts = new AtomicInteger();
+        List<Long> reloaded = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+        TaskChangeQueue queue = new TaskChangeQueue("test index", executor, (projectIds, taskIds) -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("database unavailable");
+            }
+            reloaded.addAll(taskIds);
+            done.countDown();
+        });
+
+        queue.taskChanged(7L);
+
+        assertTrue(done.await(10, TimeUnit.SECONDS), "reload was not retried");
+        assertEquals(List.of(7L), reloaded);
+        assertEquals(2, attempts.get());
+    }
+}
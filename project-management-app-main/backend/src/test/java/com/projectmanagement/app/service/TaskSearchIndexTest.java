@@ -0,0 +1,78 @@
+package com.projectmanagement.app.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskSearchIndexTest {
+    private static final Set<Long> PROJECTS = Set.of(1L, 2L);
+
+    @Test
+    void findsTasksByEveryTermAndPrefix() {
+        TaskSearchIndex index = new TaskSearchIndex();
+        index.put(1, 1, "Deploy release", "Roll out the new build");
+        index.put(2, 1, "Release notes", "Write them");
+        index.put(3, 2, "Deploy hotfix", null);
+
+        assertEquals(List.of(1L), taskIds(index.search("deploy release", PROJECTS, 10)));
+        assertEquals(Set.of(1L, 3L), Set.copyOf(taskIds(index.search("dep*", PROJECTS, 10))));
+        assertEquals(List.of(3L), taskIds(index.search("deploy", Set.of(2L), 10)));
+    }
+
+    @Test
+    void removingTasksKeepsTheOthersFindable() {
+        TaskSearchIndex index = new TaskSearchIndex();
+        for (long taskId = 1; taskId <= 5; taskId++) {
+            index.put(taskId, 1, "shared task " + taskId, null);
+        }
+        // Removing from the middle moves the last posting of each list into the freed slot
+        index.remove(2);
+        index.remove(1);
+        index.put(4, 1, "renamed", null);
+        index.remove(5);
+
+        assertEquals(List.of(3L), taskIds(index.search("shared", PROJECTS, 10)));
+        assertEquals(List.of(4L), taskIds(index.search("renamed", PROJECTS, 10)));
+        index.remove(3);
+        assertTrue(index.search("shared", PROJECTS, 10).isEmpty());
+    }
+
+    @Test
+    void randomUpdatesMatchAFreshIndex() {
+        Random random = new Random(7);
+        String[] words = {"alpha", "beta", "gamma", "delta", "epsilon"};
+        TaskSearchIndex index = new TaskSearchIndex();
+        String[] titles = new String[50];
+        for (int i = 0; i < 5000; i++) {
+            int taskId = random.nextInt(titles.length);
+            if (random.nextInt(4) == 0) {
+                index.remove(taskId);
+                titles[taskId] = null;
+            } else {
+                titles[taskId] = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)];
+                index.put(taskId, 1 + taskId % 2, titles[taskId], null);
+            }
+        }
+
+        TaskSearchIndex fresh = new TaskSearchIndex();
+        for (int taskId = 0; taskId < titles.length; taskId++) {
+            if (titles[taskId] != null) {
+                fresh.put(taskId, 1 + taskId % 2, titles[taskId], null);
+            }
+        }
+        assertEquals(fresh.size(), index.size());
+        for (String word : words) {
+            assertEquals(Set.copyOf(taskIds(fresh.search(word, PROJECTS, 100))),
+                    Set.copyOf(taskIds(index.search(word, PROJECTS, 100))), word);
+        }
+    }
+
+    private static List<Long> taskIds(List<TaskSearchIndex.Hit> hits) {
+        return hits.stream().map(TaskSearchIndex.Hit::taskId).toList();
+    }
+}
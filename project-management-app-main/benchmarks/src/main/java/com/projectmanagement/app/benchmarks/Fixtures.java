@@ -0,0 +1,166 @@
+package com.projectmanagement.app.benchmarks;
+
+import com.projectmanagement.app.dto.ProjectResponse;
+import com.projectmanagement.app.dto.TaskResponse;
+import com.projectmanagement.app.dto.UserSummaryDto;
+import com.projectmanagement.app.model.ERole;
+import com.projectmanagement.app.model.Project;
+import com.projectmanagement.app.model.ProjectStats;
+import com.projectmanagement.app.model.ProjectStatus;
+import com.projectmanagement.app.model.Role;
+import com.projectmanagement.app.model.Task;
+import com.projectmanagement.app.model.TaskStatus;
+import com.projectmanagement.app.model.User;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory entities shaped like production data, and field injection for services created without Spring.
+ */
+final class Fixtures {
+    // Same value as app.jwt.secret in application.properties
+    static final String JWT_SECRET = "YourSecretKeyHereMakeItLongAndRandomForProductionEnvironment";
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 15, 12, 0);
+
+    private Fixtures() {
+    }
+
+    static User user(long id) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("user" + id);
+        user.setEmail("user" + id + "@example.com");
+        user.setPassword("{bcrypt}not-a-real-hash");
+        user.setFullName("User Number " + id);
+        Set<Role> roles = new HashSet<>();
+        roles.add(new Role(ERole.ROLE_USER));
+        roles.add(new Role(ERole.ROLE_MEMBER));
+        user.setRoles(roles);
+        return user;
+    }
+
+    static Project project(long id, int memberCount) {
+        Project project = new Project();
+        project.setId(id);
+        project.setName("Project " + id);
+        project.setDescription("Benchmark project with a description of typical length for the list views.");
+        project.setStartDate(NOW.minusMonths(2));
+        project.setDueDate(NOW.plusMonths(4));
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        project.setOwner(user(1));
+        Set<User> members = new HashSet<>();
+        for (int i = 0; i < memberCount; i++) {
+            members.add(user(100 + i));
+        }
+        project.setMembers(members);
+        project.setCreatedAt(NOW.minusMonths(2));
+        project.setUpdatedAt(NOW.minusDays(1));
+        return project;
+    }
+
+    static ProjectStats projectStats(long projectId) {
+        ProjectStats stats = new ProjectStats(projectId);
+        stats.setTotalTasks(120);
+        stats.setTodoTasks(40);
+        stats.setInProgressTasks(30);
+        stats.setReviewTasks(10);
+        stats.setDoneTasks(35);
+        stats.setBlockedTasks(5);
+        stats.setOverdueTasks(12);
+        stats.setProgressSum(120 * 45);
+        return stats;
+    }
+
+    static List<UserSummaryDto> memberSummaries(Project project) {
+        List<UserSummaryDto> members = new ArrayList<>();
+        for (User member : project.getMembers()) {
+            members.add(new UserSummaryDto(member.getId(), member.getUsername(), member.getFullName(),
+                    member.getEmail()));
+        }
+        return members;
+    }
+
+    static Task task(long id, Project project) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setDescription("Implement the part of the feature described in the linked design document.");
+        task.setStatus(TaskStatus.values()[(int) (id % TaskStatus.values().length)]);
+        task.setPriority((int) (id % 5) + 1);
+        task.setDueDate(id % 3 == 0 ? NOW.minusDays(id % 10) : NOW.plusDays(id % 30));
+        task.setProject(project);
+        task.setAssignee(id % 4 == 0 ? null : user(100 + id % 8));
+        task.setCreatedAt(NOW.minusDays(20).plusMinutes(id));
+        task.setUpdatedAt(NOW.minusDays(1));
+        task.setProgressPercentage((int) (id * 7 % 101));
+        return task;
+    }
+
+    static List<TaskResponse> taskResponses(int count) {
+        Project project = project(1, 0);
+        List<TaskResponse> responses = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Task task = task(i + 1, project);
+            User assignee = task.getAssignee();
+            responses.add(new TaskResponse(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(),
+                    task.getPriority(), task.getDueDate(), project.getId(), project.getName(),
+                    assignee != null ? assignee.getId() : null, assignee != null ? assignee.getUsername() : null,
+                    assignee != null ? assignee.getFullName() : null, assignee != null ? assignee.getEmail() : null,
+                    task.getCreatedAt(), task.getUpdatedAt(), task.getProgressPercentage()));
+        }
+        return responses;
+    }
+
+    static List<ProjectResponse> projectResponses(int count, int memberCount) {
+        List<ProjectResponse> responses = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Project project = project(i + 1, memberCount);
+            ProjectStats stats = projectStats(project.getId());
+            ProjectResponse response = new ProjectResponse();
+            response.setId(project.getId());
+            response.setName(project.getName());
+            response.setDescription(project.getDescription());
+            response.setStartDate(project.getStartDate());
+            response.setDueDate(project.getDueDate());
+            response.setStatus(project.getStatus());
+            User owner = project.getOwner();
+            response.setOwner(new UserSummaryDto(owner.getId(), owner.getUsername(), owner.getFullName(),
+                    owner.getEmail()));
+            response.setMembers(memberSummaries(project));
+            response.setTotalTasks((int) stats.getTotalTasks());
+            response.setCompletedTasks((int) stats.getDoneTasks());
+            Map<TaskStatus, Long> tasksByStatus = new EnumMap<>(TaskStatus.class);
+            tasksByStatus.put(TaskStatus.TODO, stats.getTodoTasks());
+            tasksByStatus.put(TaskStatus.IN_PROGRESS, stats.getInProgressTasks());
+            tasksByStatus.put(TaskStatus.REVIEW, stats.getReviewTasks());
+            tasksByStatus.put(TaskStatus.DONE, stats.getDoneTasks());
+            tasksByStatus.put(TaskStatus.BLOCKED, stats.getBlockedTasks());
+            response.setTasksByStatus(tasksByStatus);
+            response.setOverdueTasks((int) stats.getOverdueTasks());
+            response.setAverageProgress((double) stats.getProgressSum() / stats.getTotalTasks());
+            response.setCreatedAt(project.getCreatedAt());
+            response.setUpdatedAt(project.getUpdatedAt());
+            responses.add(response);
+        }
+        return responses;
+    }
+
+    // Sets an @Autowired or @Value field the way Spring would
+    static void inject(Object target, String fieldName, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot set " + fieldName + " on " + target.getClass().getName(), e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.projectmanagement.app.benchmarks;
+
+import com.projectmanagement.app.config.CacheRegistry;
+import com.projectmanagement.app.security.jwt.JwtUtils;
+import com.projectmanagement.app.security.services.UserDetailsImpl;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token handling done at signin (generate) and on every authenticated request (validate and parse).
+ * The cached variants measure what repeat requests with the same token cost.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+    // The signature check and claims parsing behind the token cache
+    private static final MethodHandle PARSE_CLAIMS;
+
+    static {
+        try {
+            PARSE_CLAIMS = MethodHandles.privateLookupIn(JwtUtils.class, MethodHandles.lookup())
+                    .findVirtual(JwtUtils.class, "parseClaims", MethodType.methodType(Claims.class, String.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private JwtUtils jwtUtils;
+
+    private Authentication authentication;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = new JwtUtils();
+        Fixtures.inject(jwtUtils, "cacheRegistry", new CacheRegistry());
+        Fixtures.inject(jwtUtils, "jwtSecret", Fixtures.JWT_SECRET);
+        Fixtures.inject(jwtUtils, "jwtExpirationMs", 86400000);
+        Fixtures.inject(jwtUtils, "tokenCacheSize", 10000L);
+        jwtUtils.init();
+
+        UserDetailsImpl principal = UserDetailsImpl.build(Fixtures.user(1));
+        authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        token = jwtUtils.generateJwtToken(authentication);
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtUtils.generateJwtToken(authentication);
+    }
+
+    @Benchmark
+    public Claims parseUncached() throws Throwable {
+        return (Claims) PARSE_CLAIMS.invokeExact(jwtUtils, token);
+    }
+
+    @Benchmark
+    public boolean validateCached() {
+        return jwtUtils.validateJwtToken(token);
+    }
+
+    @Benchmark
+    public String usernameCached() {
+        return jwtUtils.getUserNameFromJwtToken(token);
+    }
+}
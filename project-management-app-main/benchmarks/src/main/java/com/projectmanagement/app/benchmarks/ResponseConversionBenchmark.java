@@ -0,0 +1,93 @@
+package com.projectmanagement.app.benchmarks;
+
+import com.projectmanagement.app.dto.ProjectResponse;
+import com.projectmanagement.app.dto.TaskResponse;
+import com.projectmanagement.app.dto.UserSummaryDto;
+import com.projectmanagement.app.model.Project;
+import com.projectmanagement.app.model.ProjectStats;
+import com.projectmanagement.app.model.Task;
+import com.projectmanagement.app.service.ProjectService;
+import com.projectmanagement.app.service.TaskService;
+import com.projectmanagement.app.service.UserService;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to response conversion of the services, against in-memory entities so no database is involved.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseConversionBenchmark {
+    private static final MethodHandle CONVERT_TASK;
+
+    private static final MethodHandle CONVERT_PROJECT;
+
+    static {
+        try {
+            CONVERT_TASK = MethodHandles.privateLookupIn(TaskService.class, MethodHandles.lookup())
+                    .findVirtual(TaskService.class, "convertToTaskResponse",
+                            MethodType.methodType(TaskResponse.class, Task.class));
+            CONVERT_PROJECT = MethodHandles.privateLookupIn(ProjectService.class, MethodHandles.lookup())
+                    .findVirtual(ProjectService.class, "convertToProjectResponse",
+                            MethodType.methodType(ProjectResponse.class, Project.class, ProjectStats.class, List.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Param({"0", "10", "50"})
+    private int memberCount;
+
+    private TaskService taskService;
+
+    private ProjectService projectService;
+
+    private Task assignedTask;
+
+    private Task unassignedTask;
+
+    private Project project;
+
+    private ProjectStats projectStats;
+
+    private List<UserSummaryDto> members;
+
+    @Setup
+    public void setUp() {
+        UserService userService = new UserService();
+        taskService = new TaskService();
+        Fixtures.inject(taskService, "userService", userService);
+        projectService = new ProjectService();
+        Fixtures.inject(projectService, "userService", userService);
+
+        project = Fixtures.project(1, memberCount);
+        projectStats = Fixtures.projectStats(1);
+        members = Fixtures.memberSummaries(project);
+        assignedTask = Fixtures.task(1, project);
+        unassignedTask = Fixtures.task(4, project);
+    }
+
+    @Benchmark
+    public TaskResponse convertAssignedTask() throws Throwable {
+        return (TaskResponse) CONVERT_TASK.invokeExact(taskService, assignedTask);
+    }
+
+    @Benchmark
+    public TaskResponse convertUnassignedTask() throws Throwable {
+        return (TaskResponse) CONVERT_TASK.invokeExact(taskService, unassignedTask);
+    }
+
+    @Benchmark
+    public ProjectResponse convertProject() throws Throwable {
+        return (ProjectResponse) CONVERT_PROJECT.invokeExact(projectService, project, projectStats, members);
+    }
+}
@@ -0,0 +1,123 @@
+package com.projectmanagement.app.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.projectmanagement.app.config.MessageConverterConfig;
+import com.projectmanagement.app.dto.ProjectResponse;
+import com.projectmanagement.app.dto.TaskResponse;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writing task and project listings in each response format the API negotiates: JSON, JSON gzipped as
+ * server.compression does, Smile and CBOR. The size of each payload is reported as the secondary result
+ * payloadBytes, so time and size end up side by side in the results. Projects have 10 members, like a
+ * typical team.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseFormatBenchmark {
+    @Param({"json", "json-gzip", "smile", "cbor"})
+    private String format;
+
+    @Param({"50", "200"})
+    private int size;
+
+    private ObjectWriter taskWriter;
+
+    private ObjectWriter projectWriter;
+
+    private boolean gzip;
+
+    private List<TaskResponse> tasks;
+
+    private List<ProjectResponse> projects;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+        // JMH adds event counters up over the threads and measurement iterations, so each reports its share
+        // and the result is the size of one payload. Every call writes the same payload.
+        public double payloadBytes;
+
+        private double share;
+
+        @Setup(Level.Iteration)
+        public void setUp(BenchmarkParams benchmark, IterationParams iteration) {
+            share = 1.0 / (benchmark.getThreads() * iteration.getCount());
+        }
+
+        void wrote(byte[] payload) {
+            payloadBytes = payload.length * share;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        // The mappers of the application's message converters, built by Boot from the application's
+        // spring.jackson settings
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(JacksonAutoConfiguration.class,
+                MessageConverterConfig.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run()) {
+            ObjectMapper objectMapper = switch (format) {
+                case "json", "json-gzip" -> context.getBean(ObjectMapper.class);
+                case "smile" -> context.getBean(MappingJackson2SmileHttpMessageConverter.class).getObjectMapper();
+                case "cbor" -> context.getBean(MappingJackson2CborHttpMessageConverter.class).getObjectMapper();
+                default -> throw new IllegalArgumentException("Unknown format: " + format);
+            };
+            taskWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                    .constructCollectionType(List.class, TaskResponse.class));
+            projectWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                    .constructCollectionType(List.class, ProjectResponse.class));
+        }
+        gzip = format.equals("json-gzip");
+        tasks = Fixtures.taskResponses(size);
+        projects = Fixtures.projectResponses(size, 10);
+    }
+
+    @Benchmark
+    public byte[] serializeTaskList(Payload payload) throws IOException {
+        byte[] bytes = write(taskWriter, tasks);
+        payload.wrote(bytes);
+        return bytes;
+    }
+
+    @Benchmark
+    public byte[] serializeProjectList(Payload payload) throws IOException {
+        byte[] bytes = write(projectWriter, projects);
+        payload.wrote(bytes);
+        return bytes;
+    }
+
+    private byte[] write(ObjectWriter writer, Object value) throws IOException {
+        if (!gzip) {
+            return writer.writeValueAsBytes(value);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            writer.writeValue(out, value);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,30 @@
+package com.projectmanagement.app.benchmarks;
+
+import com.projectmanagement.app.model.User;
+import com.projectmanagement.app.security.services.UserDetailsImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the principal from a loaded user, done for every principal cache miss.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserDetailsBenchmark {
+    private User user;
+
+    @Setup
+    public void setUp() {
+        user = Fixtures.user(1);
+    }
+
+    @Benchmark
+    public UserDetailsImpl build() {
+        return UserDetailsImpl.build(user);
+    }
+}
@@ -1,7 +1,7 @@
 import React, { useState, useEffect } from 'react';
 import { Container, Row, Col, Card } from 'react-bootstrap';
 import { Link } from 'react-router-dom';
-import { projectService, taskService } from '../services/api.service';
+import { dashboardService } from '../services/api.service';
 import { Chart as ChartJS, ArcElement, Tooltip, Legend, CategoryScale, LinearScale, BarElement, Title } from 'chart.js';
 import { Pie, Bar } from 'react-chartjs-2';
 
@@ -43,49 +43,23 @@ const Dashboard = () => {
       try {
         setLoading(true);
         
-        // Fetch user projects
-        const projectResponse = await projectService.getUserProjects();
-        const projectData = projectResponse.data;
-        setProjects(projectData);
+        // Counts, recent projects and open tasks come precomputed in one response
+        const dashboardResponse = await dashboardService.getDashboard();
+        const dashboard = dashboardResponse.data;
+        setProjects(dashboard.recentProjects);
         
-        // Fetch assigned tasks
-        const taskResponse = await taskService.getAssignedTasks();
-        const taskData = taskResponse.data;
-        setTasks(taskData);
+        // Overdue tasks are due earliest, so they lead the upcoming list
+        setTasks([...dashboard.overdueTaskList, ...dashboard.upcomingTasks]);
         
-        // Calculate stats
-       // Calculate stats
-const overdueTasks = taskData.filter(task => {
-  // Check both possible formats for overdue status
-  const isOverdue = task.isOverdue || task.overdue;
-  return isOverdue === true;
-}).length;
-
-const completedTasks = taskData.filter(task => {
-  // Handle both string and enum status values
-  const status = task.status || '';
-  return status.toString() === 'DONE' || status.toString() === 'DONE';
-}).length;
-
-setStats({
-  totalProjects: projectData.length,
-  totalTasks: taskData.length,
-  overdueTasks,
-  completedTasks
-});
+        setStats({
+          totalProjects: dashboard.totalProjects,
+          totalTasks: dashboard.totalTasks,
+          overdueTasks: dashboard.overdueTasks,
+          completedTasks: dashboard.completedTasks
+        });
         
         // Prepare project status chart data
-        const projectStatusCounts = {
-          'NOT_STARTED': 0,
-          'IN_PROGRESS': 0,
-          'ON_HOLD': 0,
-          'COMPLETED': 0,
-          'CANCELLED': 0
-        };
-        
-        projectData.forEach(project => {
-          projectStatusCounts[project.status]++;
-        });
+        const projectStatusCounts = dashboard.projectsByStatus;
         
         setProjectStatusData({
           labels: ['Not Started', 'In Progress', 'On Hold', 'Completed', 'Cancelled'],
@@ -119,17 +93,7 @@ setStats({
         });
         
         // Prepare task status chart data
-        const taskStatusCounts = {
-          'TODO': 0,
-          'IN_PROGRESS': 0,
-          'REVIEW': 0,
-          'DONE': 0,
-          'BLOCKED': 0
-        };
-        
-        taskData.forEach(task => {
-          taskStatusCounts[task.status]++;
-        });
+        const taskStatusCounts = dashboard.tasksByStatus;
         
         setTaskStatusData({
           labels: ['To Do', 'In Progress', 'Review', 'Done', 'Blocked'],
@@ -175,9 +139,7 @@ setStats({
   }, []);
 
   const renderRecentProjects = () => {
-    const recentProjects = [...projects].sort((a, b) => 
-      new Date(b.createdAt) - new Date(a.createdAt)
-    ).slice(0, 5);
+    const recentProjects = projects;
     
     if (recentProjects.length === 0) {
       return <p>No projects found.</p>;
@@ -204,14 +166,7 @@ setStats({
   };
 
   const renderUpcomingTasks = () => {
-    const upcomingTasks = [...tasks]
-      .filter(task => task.status !== 'DONE')
-      .sort((a, b) => {
-        if (!a.dueDate) return 1;
-        if (!b.dueDate) return -1;
-        return new Date(a.dueDate) - new Date(b.dueDate);
-      })
-      .slice(0, 5);
+    const upcomingTasks = tasks.slice(0, 5);
     
     if (upcomingTasks.length === 0) {
       return <p>No upcoming tasks found.</p>;
@@ -2,10 +2,24 @@ import http from '../http-common';
 
 // All API calls will use the configured http client with interceptors
 
+// List endpoints are cursor paginated ({ items, next }). Follows the cursors
+// and resolves to a response whose data is the full array, as before.
+const getAllPages = async (url) => {
+  const items = [];
+  let cursor = null;
+  let response;
+  do {
+    response = await http.get(url, { params: cursor ? { cursor } : {} });
+    items.push(...response.data.items);
+    cursor = response.data.next;
+  } while (cursor);
+  return { ...response, data: items };
+};
+
 // Project API calls
 const projectService = {
   getAllProjects: () => {
-    return http.get("/api/projects");
+    return getAllPages("/api/projects");
   },
   
   getUserProjects: () => {
@@ -40,15 +54,15 @@ const projectService = {
 // Task API calls
 const taskService = {
   getAllTasks: () => {
-    return http.get("/api/tasks");
+    return getAllPages("/api/tasks");
   },
   
   getTasksByProject: (projectId) => {
-    return http.get(`/api/tasks/project/${projectId}`);
+    return getAllPages(`/api/tasks/project/${projectId}`);
   },
   
   getAssignedTasks: () => {
-    return http.get("/api/tasks/assigned");
+    return getAllPages("/api/tasks/assigned");
   },
   
   getTaskById: (id) => {
@@ -80,10 +94,17 @@ const taskService = {
   }
 };
 
+// Dashboard API calls
+const dashboardService = {
+  getDashboard: () => {
+    return http.get("/api/dashboard");
+  }
+};
+
 // User API calls
 const userService = {
   getAllUsers: () => {
-    return http.get("/api/users");
+    return getAllPages("/api/users");
   },
   
   getUserById: (id) => {
@@ -95,4 +116,4 @@ const userService = {
   }
 };
 
-export { projectService, taskService, userService };
+export { projectService, taskService, userService, dashboardService };